@@ -0,0 +1,106 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import org.codeacademy.baltaragisapi.dto.PageDto;
+import org.codeacademy.baltaragisapi.dto.ProductCardDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the public catalog listings: published product cards and published pages.
+ * Product details are served from a bounded cache instead, see {@code CachingConfig}. Changes never mutate a snapshot; they produce a copy with a higher generation
+ * that is swapped in by {@link CatalogSnapshotHolder}, so readers need no locking.
+ */
+public final class CatalogSnapshot {
+
+    private final long generation;
+    private final Map<Long, ProductCardDto> cardsById;
+    private final List<ProductCardDto> cards;
+    private final List<PageDto> pages;
+    private final Map<String, PageDto> pagesBySlug;
+
+    private CatalogSnapshot(long generation, Map<Long, ProductCardDto> cardsById, List<PageDto> pages) {
+        this.generation = generation;
+        this.cardsById = Map.copyOf(cardsById);
+        this.cards = cardsById.keySet().stream().sorted().map(cardsById::get).toList();
+        this.pages = List.copyOf(pages);
+        this.pagesBySlug = pages.stream().collect(Collectors.toUnmodifiableMap(PageDto::getSlug, Function.identity()));
+    }
+
+    /**
+     * Build the first snapshot from a full catalog load.
+     *
+     * @param cards Card of every published product
+     * @param pages Published pages in display order
+     */
+    public static CatalogSnapshot of(Collection<ProductCardDto> cards, List<PageDto> pages) {
+        return new CatalogSnapshot(1,
+                cards.stream().collect(Collectors.toMap(ProductCardDto::getId, Function.identity())),
+                pages);
+    }
+
+    /**
+     * Copy with a product card added or replaced.
+     */
+    public CatalogSnapshot withProduct(ProductCardDto card) {
+        Map<Long, ProductCardDto> nextCards = new TreeMap<>(cardsById);
+        nextCards.put(card.getId(), card);
+        return new CatalogSnapshot(generation + 1, nextCards, pages);
+    }
+
+    /**
+     * Copy without the given product; returns this snapshot if the product is not in it.
+     */
+    public CatalogSnapshot withoutProduct(Long productId) {
+        if (!cardsById.containsKey(productId)) {
+            return this;
+        }
+        Map<Long, ProductCardDto> nextCards = new TreeMap<>(cardsById);
+        nextCards.remove(productId);
+        return new CatalogSnapshot(generation + 1, nextCards, pages);
+    }
+
+    /**
+     * Copy with the published pages replaced.
+     */
+    public CatalogSnapshot withPages(List<PageDto> nextPages) {
+        return new CatalogSnapshot(generation + 1, cardsById, nextPages);
+    }
+
+    /**
+     * Incremented on every change; two snapshots with the same generation hold the same data.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Published product cards in ascending id order.
+     */
+    public List<ProductCardDto> cards() {
+        return cards;
+    }
+
+    /**
+     * Published product cards in the order of the given ids; unknown ids are skipped.
+     */
+    public List<ProductCardDto> cards(List<Long> productIds) {
+        return productIds.stream()
+                .map(cardsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<PageDto> pages() {
+        return pages;
+    }
+
+    public PageDto page(String slug) {
+        return pagesBySlug.get(slug);
+    }
+}
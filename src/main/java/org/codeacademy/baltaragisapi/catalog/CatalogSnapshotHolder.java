@@ -0,0 +1,140 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.dto.PageDto;
+import org.codeacademy.baltaragisapi.dto.ProductCardDto;
+import org.codeacademy.baltaragisapi.entity.Page;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.entity.ProductPhoto;
+import org.codeacademy.baltaragisapi.event.PageChangedEvent;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.mapper.PageMapper;
+import org.codeacademy.baltaragisapi.mapper.ProductMapper;
+import org.codeacademy.baltaragisapi.repository.PageRepository;
+import org.codeacademy.baltaragisapi.repository.ProductCardRow;
+import org.codeacademy.baltaragisapi.repository.ProductPhotoRepository;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.repository.ProductThumbnail;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link CatalogSnapshot} and replaces it after every committed catalog change.
+ * <p>
+ * The full catalog is loaded once on startup; afterwards a product or page change reloads only that
+ * product (or the page list) and swaps in a patched copy. Writers are serialized, readers just read
+ * the volatile reference.
+ * <p>
+ * Only this node's changes reach the snapshot, so it is built only with {@code app.catalog.single-node};
+ * with several nodes it stays null and every read goes to the shared database.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotHolder {
+
+    private final ProductRepository productRepository;
+    private final ProductPhotoRepository photoRepository;
+    private final PageRepository pageRepository;
+    private final ProductMapper productMapper;
+    private final PageMapper pageMapper;
+    private final CatalogProperties catalogProperties;
+
+    /**
+     * Distinguishes snapshot generations of this process from those of an earlier run
+     */
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private volatile CatalogSnapshot current;
+
+    public CatalogSnapshotHolder(ProductRepository productRepository, ProductPhotoRepository photoRepository,
+                                 PageRepository pageRepository, ProductMapper productMapper, PageMapper pageMapper,
+                                 CatalogProperties catalogProperties) {
+        this.productRepository = productRepository;
+        this.photoRepository = photoRepository;
+        this.pageRepository = pageRepository;
+        this.productMapper = productMapper;
+        this.pageMapper = pageMapper;
+        this.catalogProperties = catalogProperties;
+    }
+
+    /**
+     * The current snapshot, or null until the initial load has completed and always on several nodes.
+     */
+    public CatalogSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Catalog epoch: changes whenever any published product, photo, stock level or page changes
+     * through this node, and on restart. Changes made by other nodes are not seen, so the epoch is
+     * only a valid validator with {@code app.catalog.single-node}. Null until the initial load has completed.
+     */
+    public String epoch() {
+        CatalogSnapshot snapshot = current;
+        return snapshot != null ? bootId + "-" + snapshot.generation() : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!catalogProperties.isSingleNode()) {
+            log.info("Catalog snapshot disabled: several nodes share the database");
+            return;
+        }
+        List<Product> products = productRepository.findByIsPublishedTrue();
+        Map<Long, String> thumbnails = products.isEmpty() ? Map.of() : photoRepository
+                .findThumbnailsByProductIds(products.stream().map(Product::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductThumbnail::getProductId, ProductThumbnail::getUrl));
+
+        List<ProductCardDto> cards = products.stream()
+                .map(product -> toCard(product, thumbnails.get(product.getId())))
+                .toList();
+        current = CatalogSnapshot.of(cards, loadPages());
+        log.info("Catalog snapshot built with {} products and {} pages", cards.size(), current.pages().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        CatalogSnapshot snapshot = current;
+        if (snapshot == null) {
+            return;
+        }
+        current = productRepository.findById(event.productId())
+                .filter(Product::getIsPublished)
+                .map(product -> {
+                    ProductPhoto thumbnail = photoRepository.findFirstByProductIdOrderBySortOrderAscIdAsc(product.getId());
+                    return snapshot.withProduct(toCard(product, thumbnail != null ? thumbnail.getUrl() : null));
+                })
+                .orElseGet(() -> snapshot.withoutProduct(event.productId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPageChanged(PageChangedEvent event) {
+        CatalogSnapshot snapshot = current;
+        if (snapshot == null) {
+            return;
+        }
+        current = snapshot.withPages(loadPages());
+    }
+
+    private ProductCardDto toCard(Product product, String thumbnailUrl) {
+        ProductCardRow row = new ProductCardRow(product.getId(), product.getName(), product.getSlug(),
+                product.getPriceCents(), product.getCurrency(), product.getQuantity(), product.getCreatedAt());
+        return productMapper.toCard(row, thumbnailUrl);
+    }
+
+    private List<PageDto> loadPages() {
+        return pageRepository.findByIsPublishedTrue().stream()
+                .sorted(Comparator.comparing(Page::getId))
+                .map(pageMapper::toDto)
+                .toList();
+    }
+}
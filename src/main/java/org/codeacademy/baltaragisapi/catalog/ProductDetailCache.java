@@ -0,0 +1,118 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import org.codeacademy.baltaragisapi.config.CachingConfig;
+import org.codeacademy.baltaragisapi.dto.ProductDetailDto;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Product details keyed by slug, evicted once a product change has committed.
+ * <p>
+ * A load can read stock before a checkout commits and finish after that checkout's eviction. Every
+ * eviction therefore bumps a generation first, and a load that saw the generation move while it ran
+ * drops its entry again after storing it, so a stale detail never outlives the eviction. Events carry
+ * product ids while entries are keyed by slug, so the slug each cached product was stored under is
+ * remembered to evict exactly one key.
+ */
+@Component
+public class ProductDetailCache {
+
+    private final CacheManager cacheManager;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<Long, String> slugsById = new ConcurrentHashMap<>();
+
+    public ProductDetailCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Cached detail of a slug, or null.
+     */
+    public ProductDetailDto getIfPresent(String slug) {
+        Cache cache = cache();
+        return cache != null ? cache.get(slug, ProductDetailDto.class) : null;
+    }
+
+    /**
+     * Cached detail of a slug, loaded once by concurrent callers on a miss.
+     *
+     * @param slug Product slug
+     * @param loader Loads the detail from the database; exceptions are passed through and nothing is cached
+     * @return The detail
+     */
+    public ProductDetailDto get(String slug, Supplier<ProductDetailDto> loader) {
+        Cache cache = cache();
+        if (cache == null) {
+            return loader.get();
+        }
+        long loadGeneration = generation.get();
+        boolean[] loaded = new boolean[1];
+        ProductDetailDto detail;
+        try {
+            detail = cache.get(slug, () -> {
+                ProductDetailDto value = loader.get();
+                slugsById.put(value.getId(), slug);
+                loaded[0] = true;
+                return value;
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (loaded[0] && generation.get() != loadGeneration) {
+            cache.evict(slug);
+        }
+        return detail;
+    }
+
+    /**
+     * Generation to pass to {@link #put}; read it before loading the details.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cache a detail loaded after {@link #generation()} returned {@code loadGeneration}.
+     */
+    public void put(ProductDetailDto detail, long loadGeneration) {
+        Cache cache = cache();
+        if (cache == null) {
+            return;
+        }
+        slugsById.put(detail.getId(), detail.getSlug());
+        cache.put(detail.getSlug(), detail);
+        if (generation.get() != loadGeneration) {
+            cache.evict(detail.getSlug());
+        }
+    }
+
+    // Evicts before the catalog epoch moves, so batch lookups tagged with a new epoch never reuse old details
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // Bump before evicting: a load that stores after this point sees the new generation
+        generation.incrementAndGet();
+        String slug = slugsById.remove(event.productId());
+        Cache cache = cache();
+        if (slug != null && cache != null) {
+            cache.evict(slug);
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CachingConfig.PRODUCT_DETAILS);
+    }
+}
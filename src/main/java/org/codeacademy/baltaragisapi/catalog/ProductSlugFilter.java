@@ -0,0 +1,132 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Bloom filter over every product slug, published or not, so lookups of slugs that were never
+ * created answer 404 without a query. Bots probing random product URLs are the main beneficiary.
+ * <p>
+ * New slugs are added once their product commits; a deleted product triggers a rebuild, since
+ * Bloom filters cannot forget. A renamed product leaves its old slug behind as a harmless false
+ * positive until the next rebuild. Until the first build every slug is treated as possibly known.
+ * <p>
+ * Only this node's changes add slugs, so a product created through another node would be answered
+ * as missing. The filter is therefore built only with {@code app.catalog.single-node}; on several
+ * nodes every slug passes and the database decides.
+ */
+@Slf4j
+@Component
+public class ProductSlugFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // Room for the catalog to double before the filter is rebuilt larger
+    private static final int HEADROOM = 2;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final ProductRepository productRepository;
+    private final CatalogProperties catalogProperties;
+    private final Counter definiteMisses;
+    private final Counter passes;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    private int capacity;
+    private int size;
+
+    public ProductSlugFilter(ProductRepository productRepository, CatalogProperties catalogProperties,
+                             MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.catalogProperties = catalogProperties;
+        this.definiteMisses = probeCounter(meterRegistry, "miss");
+        this.passes = probeCounter(meterRegistry, "maybe");
+        this.falsePositives = Counter.builder("catalog.slug.filter.false.positives")
+                .description("Slugs the filter let through that the database did not know")
+                .register(meterRegistry);
+        Gauge.builder("catalog.slug.filter.fpp", this, ProductSlugFilter::falsePositiveRate)
+                .description("Estimated false-positive probability of the product slug filter")
+                .register(meterRegistry);
+    }
+
+    private static Counter probeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.slug.filter.probes")
+                .description("Product slug lookups checked against the slug filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!catalogProperties.isSingleNode()) {
+            log.info("Product slug filter disabled: several nodes share the database");
+            return;
+        }
+        List<String> slugs = productRepository.findAllSlugs();
+        capacity = Math.max(MIN_CAPACITY, slugs.size() * HEADROOM);
+        BloomFilter next = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        slugs.forEach(next::put);
+        size = slugs.size();
+        filter = next;
+        log.info("Product slug filter built with {} slugs", size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!catalogProperties.isSingleNode()) {
+            return;
+        }
+        productRepository.findById(event.productId()).ifPresentOrElse(
+                product -> add(product.getSlug()),
+                this::rebuild);
+    }
+
+    private synchronized void add(String slug) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.mightContain(slug)) {
+            return;
+        }
+        if (++size > capacity) {
+            rebuild();
+            return;
+        }
+        filter.put(slug);
+    }
+
+    /**
+     * Whether a product with this slug may exist. False means it certainly does not.
+     */
+    public boolean mightExist(String slug) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(slug)) {
+            passes.increment();
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    /**
+     * Record that a slug the filter let through was not found after all.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    private double falsePositiveRate() {
+        BloomFilter current = filter;
+        return current != null ? current.falsePositiveRate() : 1d;
+    }
+}
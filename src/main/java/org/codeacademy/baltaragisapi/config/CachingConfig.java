@@ -0,0 +1,17 @@
+package org.codeacademy.baltaragisapi.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring caching; cache sizing and expiry live under {@code spring.cache} in application.yml.
+ */
+@Configuration
+@EnableCaching
+public class CachingConfig {
+
+    /**
+     * Product detail responses keyed by slug
+     */
+    public static final String PRODUCT_DETAILS = "productDetails";
+}
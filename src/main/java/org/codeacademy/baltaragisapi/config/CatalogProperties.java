@@ -0,0 +1,19 @@
+package org.codeacademy.baltaragisapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+
+    /**
+     * Whether this node is the only one writing to and serving from its database. Per-node state
+     * that only sees this node's changes (the catalog epoch ETag) is used only on a single node;
+     * set to false when several nodes share one database, whatever the search engine
+     * Default: true
+     */
+    private boolean singleNode = true;
+}
@@ -0,0 +1,70 @@
+package org.codeacademy.baltaragisapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.i18n")
+public class I18nProperties {
+
+    /**
+     * Locales the site is translated into, in display order
+     * Default: en-US, lt-LT
+     */
+    private List<String> supportedLocales = List.of("en-US", "lt-LT");
+
+    /**
+     * Locale used when nothing in the request selects a supported one; must be supported
+     * Default: en-US
+     */
+    private String defaultLocale = "en-US";
+
+    /**
+     * Distinct Accept-Language header values whose negotiated locale is memoized
+     * Default: 1000
+     */
+    private int acceptLanguageCacheSize = 1000;
+
+    /**
+     * Key namespaces (first dotted segment) used only on the server, e.g. in emails,
+     * and never served by the public i18n endpoints
+     * Default: email
+     */
+    private List<String> serverNamespaces = List.of("email");
+
+    /**
+     * Distinct (locale, key) pairs of missing translations counted in memory between flushes;
+     * misses of further pairs only add to the dropped counter
+     * Default: 1000
+     */
+    private int missTrackingMaxKeys = 1000;
+
+    /**
+     * How often counted misses are written to the translation_miss table
+     * (read by {@code @Scheduled} through {@code app.i18n.miss-flush-interval})
+     * Default: 5 minutes
+     */
+    private Duration missFlushInterval = Duration.ofMinutes(5);
+
+    /**
+     * How far behind the current time a translation sync version is held. Rows are stamped when
+     * written, not when committed, so a delta re-serves this window to catch rows of transactions
+     * still open when the previous delta was read; must exceed the longest translation write
+     * transaction, bulk imports included
+     * Default: 1 minute
+     */
+    private Duration syncOverlap = Duration.ofMinutes(1);
+
+    /**
+     * How often bundles are reloaded when {@code app.catalog.single-node} is off, so that changes made
+     * through other nodes are served within this delay
+     * (read by {@code @Scheduled} through {@code app.i18n.bundle-refresh-interval})
+     * Default: 1 minute
+     */
+    private Duration bundleRefreshInterval = Duration.ofMinutes(1);
+}
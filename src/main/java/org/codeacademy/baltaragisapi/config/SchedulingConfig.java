@@ -0,0 +1,12 @@
+package org.codeacademy.baltaragisapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as flushing translation miss counters.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,36 @@
+package org.codeacademy.baltaragisapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    /**
+     * Product search backend
+     * Default: memory (per-node inverted index)
+     */
+    private Engine engine = Engine.MEMORY;
+
+    /**
+     * Minimum trigram (Dice) similarity for a known word to replace a misspelled one,
+     * when a search finds nothing
+     * Default: 0.5 (about one wrong letter in a six-letter word)
+     */
+    private double fuzzyThreshold = 0.5;
+
+    public enum Engine {
+        /**
+         * In-process inverted index rebuilt on startup and patched on changes
+         */
+        MEMORY,
+        /**
+         * MySQL FULLTEXT index queried with MATCH ... AGAINST; falls back to LIKE on other databases.
+         * Search results always reflect the shared database
+         */
+        DATABASE
+    }
+}
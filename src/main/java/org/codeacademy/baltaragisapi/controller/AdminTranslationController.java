@@ -7,16 +7,30 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationRequest;
+import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationResponse;
 import org.codeacademy.baltaragisapi.dto.admin.CreateTranslationRequest;
+import org.codeacademy.baltaragisapi.dto.admin.MissingTranslationResponse;
 import org.codeacademy.baltaragisapi.dto.admin.TranslationResponse;
 import org.codeacademy.baltaragisapi.entity.Translation;
+import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.service.TranslationService;
+import org.codeacademy.baltaragisapi.service.TranslationTransferService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +41,15 @@ import java.util.stream.Collectors;
 @Tag(name = "Admin: Translations", description = "Admin endpoints for managing translations")
 public class AdminTranslationController {
     
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final TranslationService translationService;
+    private final TranslationTransferService transferService;
     
-    public AdminTranslationController(TranslationService translationService) {
+    public AdminTranslationController(TranslationService translationService,
+                                      TranslationTransferService transferService) {
         this.translationService = translationService;
+        this.transferService = transferService;
     }
     
     /**
@@ -197,41 +216,164 @@ public class AdminTranslationController {
      * Bulk upsert translations.
      * 
      * @param request The bulk translation request
-     * @return List of created/updated translations
+     * @return Number of created, updated and unchanged rows
      */
     @PostMapping("/bulk")
     @Operation(
         summary = "Bulk upsert translations",
         description = "Create or update multiple translations in a single request. " +
-                    "Useful for importing translation files or bulk updates."
+                    "Useful for importing translation files or bulk updates. " +
+                    "Returns how many rows were created, updated or already up to date."
     )
     @ApiResponses(value = {
         @ApiResponse(
-            responseCode = "201",
+            responseCode = "200",
             description = "Translations created/updated successfully",
-            content = @Content(schema = @Schema(implementation = TranslationResponse.class))
+            content = @Content(schema = @Schema(implementation = BulkTranslationResponse.class))
         ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request data"
         )
     })
-    public ResponseEntity<List<TranslationResponse>> bulkUpsertTranslations(
+    public ResponseEntity<BulkTranslationResponse> bulkUpsertTranslations(
             @RequestBody BulkTranslationRequest request) {
         
-        List<Translation> translations = translationService.bulkUpsertTranslations(request.getTranslations());
+        return ResponseEntity.ok(translationService.bulkUpsertTranslations(request.getTranslations()));
+    }
+    
+    /**
+     * Import a JSON translation file without loading it into memory.
+     * 
+     * @param body JSON document mapping locale to key to value
+     * @return Number of created, updated and unchanged rows
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Import translations from JSON",
+        description = "Streams a {\"locale\": {\"key\": \"value\"}} document (optionally wrapped in \"translations\") " +
+                    "and writes it in batches of " + TranslationService.WRITE_BATCH_SIZE + ". " +
+                    "On a malformed file, batches written before the error are kept."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Translations imported successfully",
+            content = @Content(schema = @Schema(implementation = BulkTranslationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Malformed file, unsupported locale or empty key/value"
+        )
+    })
+    public ResponseEntity<BulkTranslationResponse> importJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(transferService.importJson(body));
+    }
+    
+    /**
+     * Import a CSV translation file without loading it into memory.
+     * 
+     * @param body CSV text with a locale,key,value header
+     * @return Number of created, updated and unchanged rows
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    @Operation(
+        summary = "Import translations from CSV",
+        description = "Streams a UTF-8 CSV file with a locale,key,value header " +
+                    "and writes it in batches of " + TranslationService.WRITE_BATCH_SIZE + ". " +
+                    "On a malformed file, batches written before the error are kept."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Translations imported successfully",
+            content = @Content(schema = @Schema(implementation = BulkTranslationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Malformed file, unsupported locale or empty key/value"
+        )
+    })
+    public ResponseEntity<BulkTranslationResponse> importCsv(InputStream body) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return ResponseEntity.ok(transferService.importCsv(reader));
+    }
+    
+    /**
+     * Export translations, streamed from the database to the response.
+     * 
+     * @param format json or csv
+     * @param locale Only this locale, or all when omitted
+     * @param response Response to write the file to
+     */
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export translations",
+        description = "Download all translations (or one locale) as JSON or CSV, in the formats the import accepts."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Translations exported successfully"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown format or unsupported locale"
+        )
+    })
+    public void exportTranslations(
+            @Parameter(description = "File format: json or csv", example = "csv")
+            @RequestParam(defaultValue = "json") String format,
+            @Parameter(description = "Locale code (en-US or lt-LT); all locales when omitted", example = "en-US")
+            @RequestParam(required = false) String locale,
+            HttpServletResponse response) throws IOException {
         
-        List<TranslationResponse> responses = translations.stream()
-                .map(t -> TranslationResponse.builder()
-                        .id(t.getId())
-                        .key(t.getKey())
-                        .locale(t.getLocale())
-                        .value(t.getValue())
-                        .updatedAt(t.getUpdatedAt())
-                        .build())
-                .collect(Collectors.toList());
+        if (locale != null && !translationService.getSupportedLocales().contains(locale)) {
+            throw new ValidationException("Unsupported locale: " + locale, null);
+        }
+        String fileName = "translations" + (locale == null ? "" : "-" + locale);
+        if ("csv".equals(format)) {
+            response.setContentType(TEXT_CSV_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + ".csv\"");
+            transferService.exportCsv(locale, response.getWriter());
+        } else if ("json".equals(format)) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + ".json\"");
+            transferService.exportJson(locale, response.getOutputStream());
+        } else {
+            throw new ValidationException("Invalid format", Map.of("format", "must be json or csv"));
+        }
+    }
+    
+    /**
+     * Get translation keys that were looked up but do not exist.
+     * 
+     * @param limit Maximum number of entries
+     * @return Missing keys, most misses first
+     */
+    @GetMapping("/missing")
+    @Operation(
+        summary = "Get missing translations",
+        description = "Keys that fell back to the key itself, counted per locale, most misses first. " +
+                    "Keys created since are left out."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Missing translations retrieved successfully",
+            content = @Content(schema = @Schema(implementation = MissingTranslationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid limit"
+        )
+    })
+    public ResponseEntity<List<MissingTranslationResponse>> getMissingTranslations(
+            @Parameter(description = "Maximum number of entries (1-500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+        return ResponseEntity.ok(translationService.getMissingTranslations(limit));
     }
     
     /**
@@ -7,24 +7,45 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.codeacademy.baltaragisapi.dto.TranslationDeltaDto;
 import org.codeacademy.baltaragisapi.service.TranslationService;
+import org.codeacademy.baltaragisapi.web.TranslationBundleCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Public controller for serving internationalized translations.
+ * <p>
+ * Bundles are served under two URLs: {@code /{locale}} revalidates against the content-hash ETag
+ * (suffixed {@code -gz} for the gzipped body; If-None-Match may name either),
+ * while {@code /{locale}.{hash}.json} never changes and may be cached for a year. The manifest maps
+ * each locale to its current hashed URL. Bundles carry their sync version in
+ * {@code X-Translations-Version}; clients holding one fetch only later changes with {@code ?since=}.
+ * {@code /{locale}/{namespace}} serves a single key namespace the same way, so a page loads only the
+ * keys it renders. Server-only namespaces (email) are never served here.
  */
 @RestController
 @RequestMapping("/api/v1/i18n")
 @Tag(name = "Internationalization", description = "Public endpoints for retrieving translations")
 public class I18nController {
     
+    private static final String BASE_PATH = "/api/v1/i18n/";
+    private static final CacheControl REVALIDATED = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final TranslationService translationService;
+    private final TranslationBundleCache bundleCache;
     
-    public I18nController(TranslationService translationService) {
+    public I18nController(TranslationService translationService, TranslationBundleCache bundleCache) {
         this.translationService = translationService;
+        this.bundleCache = bundleCache;
     }
     
     /**
@@ -33,7 +54,7 @@ public class I18nController {
      * @param locale The locale to get translations for
      * @return Map of translation key to value
      */
-    @GetMapping("/{locale}")
+    @GetMapping("/{locale:[^.]+}")
     @Operation(
         summary = "Get translations for a locale",
         description = "Retrieve all translations for a specific locale as a key-value map. " +
@@ -45,17 +66,165 @@ public class I18nController {
             description = "Translations retrieved successfully",
             content = @Content(schema = @Schema(example = "{\"common.add_to_cart\": \"Add to Cart\", \"common.loading\": \"Loading...\"}"))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Translations unchanged since the ETag in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Unsupported locale"
         )
     })
-    public ResponseEntity<Map<String, String>> getTranslations(
+    public ResponseEntity<byte[]> getTranslations(
             @Parameter(description = "Locale code (en-US or lt-LT)", example = "en-US")
-            @PathVariable String locale) {
+            @PathVariable String locale,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        Map<String, String> translations = translationService.getTranslationsForLocale(locale);
-        return ResponseEntity.ok(translations);
+        return bundleCache.get(locale).toResponse(acceptEncoding, ifNoneMatch, REVALIDATED);
+    }
+
+    /**
+     * Get translations changed or deleted since a sync version.
+     *
+     * @param locale The locale to get changes for
+     * @param since Sync version from a previous bundle or delta
+     * @return Changed and deleted keys plus the next sync version
+     */
+    @GetMapping(value = "/{locale:[^.]+}", params = "since")
+    @Operation(
+        summary = "Get translation changes for a locale",
+        description = "Keys changed or deleted since the given version (from X-Translations-Version " +
+                    "or a previous delta), plus the version to sync from next."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Delta retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported locale or invalid version")
+    })
+    public ResponseEntity<TranslationDeltaDto> getTranslationsSince(
+            @Parameter(description = "Locale code (en-US or lt-LT)", example = "en-US")
+            @PathVariable String locale,
+            @Parameter(description = "Sync version to start from", example = "1760700000000")
+            @RequestParam long since) {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(translationService.getTranslationsSince(locale, since));
+    }
+
+    /**
+     * Get a content-addressed translation bundle.
+     *
+     * @param locale The locale to get translations for
+     * @param hash Content hash from the manifest
+     * @return The bundle, or a redirect to the current one when the hash is outdated
+     */
+    @GetMapping("/{locale:[^.]+}.{hash:[0-9a-f]+}.json")
+    @Operation(
+        summary = "Get a hashed translation bundle",
+        description = "Immutable variant of the locale bundle, cacheable for a year. " +
+                    "An outdated hash redirects to the current bundle."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Translations retrieved successfully"),
+        @ApiResponse(responseCode = "302", description = "Hash is outdated; Location points at the current bundle"),
+        @ApiResponse(responseCode = "400", description = "Unsupported locale")
+    })
+    public ResponseEntity<byte[]> getHashedTranslations(
+            @PathVariable String locale,
+            @PathVariable String hash,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return serveHashed(bundleCache.get(locale), hash, acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Get the translations of one namespace.
+     *
+     * @param locale The locale to get translations for
+     * @param namespace First dotted segment of the keys, e.g. nav
+     * @return Map of translation key to value
+     */
+    @GetMapping("/{locale:[^.]+}/{namespace:[^.]+}")
+    @Operation(
+        summary = "Get translations of a namespace",
+        description = "Only the keys of one namespace (first dotted segment, e.g. nav or products), " +
+                    "so a page loads just the copy it renders."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Translations retrieved successfully",
+            content = @Content(schema = @Schema(example = "{\"nav.home\": \"Home\", \"nav.shop\": \"Shop\"}"))
+        ),
+        @ApiResponse(responseCode = "304", description = "Translations unchanged since the ETag in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Unsupported locale"),
+        @ApiResponse(responseCode = "404", description = "Unknown or server-only namespace")
+    })
+    public ResponseEntity<byte[]> getNamespaceTranslations(
+            @Parameter(description = "Locale code (en-US or lt-LT)", example = "en-US")
+            @PathVariable String locale,
+            @Parameter(description = "Key namespace", example = "nav")
+            @PathVariable String namespace,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return bundleCache.get(locale, namespace).toResponse(acceptEncoding, ifNoneMatch, REVALIDATED);
+    }
+
+    /**
+     * Get a content-addressed namespace bundle.
+     *
+     * @param locale The locale to get translations for
+     * @param namespace Key namespace
+     * @param hash Content hash
+     * @return The bundle, or a redirect to the current one when the hash is outdated
+     */
+    @GetMapping("/{locale:[^.]+}/{namespace:[^.]+}.{hash:[0-9a-f]+}.json")
+    @Operation(
+        summary = "Get a hashed namespace bundle",
+        description = "Immutable variant of a namespace bundle, cacheable for a year. " +
+                    "An outdated hash redirects to the current bundle."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Translations retrieved successfully"),
+        @ApiResponse(responseCode = "302", description = "Hash is outdated; Location points at the current bundle"),
+        @ApiResponse(responseCode = "404", description = "Unknown or server-only namespace")
+    })
+    public ResponseEntity<byte[]> getHashedNamespaceTranslations(
+            @PathVariable String locale,
+            @PathVariable String namespace,
+            @PathVariable String hash,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return serveHashed(bundleCache.get(locale, namespace), hash, acceptEncoding, ifNoneMatch);
+    }
+
+    /**
+     * Get the current hashed bundle URL of every supported locale.
+     *
+     * @return Map of locale to bundle URL
+     */
+    @GetMapping("/manifest")
+    @Operation(
+        summary = "Get translation bundle manifest",
+        description = "Map of each supported locale to the URL of its current immutable bundle."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Manifest retrieved successfully",
+            content = @Content(schema = @Schema(example = "{\"en-US\": \"/api/v1/i18n/en-US.3f2a9c1b0d4e5f67.json\"}"))
+        )
+    })
+    public ResponseEntity<Map<String, String>> getManifest() {
+        Map<String, String> manifest = new TreeMap<>();
+        for (String locale : translationService.getSupportedLocales()) {
+            manifest.put(locale, BASE_PATH + bundleCache.get(locale).fileName());
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(manifest);
     }
     
     /**
@@ -102,4 +271,15 @@ public class I18nController {
         java.util.List<String> locales = translationService.getAvailableLocales();
         return ResponseEntity.ok(locales);
     }
+
+    private ResponseEntity<byte[]> serveHashed(TranslationBundleCache.Bundle bundle, String hash,
+                                               String acceptEncoding, String ifNoneMatch) {
+        if (!bundle.hash().equals(hash)) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .header(HttpHeaders.LOCATION, BASE_PATH + bundle.fileName())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return bundle.toResponse(acceptEncoding, ifNoneMatch, IMMUTABLE);
+    }
 }
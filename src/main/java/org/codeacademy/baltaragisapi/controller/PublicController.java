@@ -9,40 +9,57 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.codeacademy.baltaragisapi.dto.*;
 import org.codeacademy.baltaragisapi.enums.WaitlistAddStatus;
+import org.codeacademy.baltaragisapi.exception.NotFoundException;
+import org.codeacademy.baltaragisapi.repository.EntityVersion;
+import org.codeacademy.baltaragisapi.repository.ProductSort;
 import org.codeacademy.baltaragisapi.service.*;
+import org.codeacademy.baltaragisapi.spec.ProductFilter;
+import org.codeacademy.baltaragisapi.web.ResponseBodyCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1")
 @Tag(name = "Public")
 public class PublicController {
 
+    /**
+     * Set on listings answered for a spelling-corrected query; holds the query actually searched.
+     */
+    static final String DID_YOU_MEAN_HEADER = "X-Did-You-Mean";
+
     private final CatalogService catalogService;
     private final CheckoutService checkoutService;
     private final WaitlistService waitlistService;
     private final PageService pageService;
     private final ArtistService artistService;
+    private final ResponseBodyCache responseBodyCache;
 
-    public PublicController(CatalogService catalogService, CheckoutService checkoutService, WaitlistService waitlistService, PageService pageService, ArtistService artistService) {
+    public PublicController(CatalogService catalogService, CheckoutService checkoutService, WaitlistService waitlistService, PageService pageService, ArtistService artistService,
+                            ResponseBodyCache responseBodyCache) {
         this.catalogService = catalogService;
         this.checkoutService = checkoutService;
         this.waitlistService = waitlistService;
         this.pageService = pageService;
         this.artistService = artistService;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @GetMapping("/artist")
     @Operation(summary = "Get artist profile",
         responses = {
             @ApiResponse(responseCode = "200", description = "Artist profile",
+                content = @Content(schema = @Schema(implementation = ArtistDto.class)),
                 headers = {
                     @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Entity tag for caching", example = "\"abc123\""),
                     @io.swagger.v3.oas.annotations.headers.Header(name = "Last-Modified", description = "Last modification date", example = "Wed, 21 Oct 2015 07:28:00 GMT"),
@@ -51,42 +68,224 @@ public class PublicController {
             @ApiResponse(responseCode = "304", description = "Not modified (conditional request)")
         }
     )
-    public ResponseEntity<ArtistDto> getArtist() {
-        ArtistDto artist = artistService.getProfile();
-        String etag = generateETag(artist);
-        OffsetDateTime lastModified = artist.getUpdatedAt();
-        
-        return ResponseEntity.ok()
-            .eTag(etag)
-            .lastModified(lastModified.toInstant())
-            .body(artist);
+    public ResponseEntity<byte[]> getArtist(WebRequest webRequest) {
+        EntityVersion version = artistService.getProfileVersion()
+            .orElseThrow(() -> new NotFoundException("Artist profile not found"));
+        ResponseEntity<byte[]> notModified = ResponseBodyCache.notModified(versionETag(version),
+            webRequest.getHeader(HttpHeaders.IF_NONE_MATCH));
+        if (notModified != null) {
+            return notModified;
+        }
+
+        return responseBodyCache.serve(ResponseBodyCache.artistKey(version.id(), version.version()),
+            webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), () -> {
+                ArtistDto artist = artistService.getProfile();
+                String etag = versionETag(new EntityVersion(artist.getId(), artist.getVersion()));
+                OffsetDateTime lastModified = artist.getUpdatedAt();
+
+                return ResponseEntity.ok()
+                    .eTag(etag)
+                    .lastModified(lastModified.toInstant())
+                    .body(artist);
+            });
     }
 
     @GetMapping("/products")
     @Operation(summary = "List published products",
         parameters = {
             @Parameter(name = "q", description = "Full-text query across name/shortDesc/longDesc", example = "print"),
+            @Parameter(name = "price", description = "Price band: 0-25, 25-50, 50-100 or 100+", example = "25-50"),
+            @Parameter(name = "inStock", description = "Only products in stock (true) or out of stock (false)", example = "true"),
+            @Parameter(name = "currency", description = "ISO 4217 currency code", example = "EUR"),
+            @Parameter(name = "sort", description = "Order: newest, price_asc, price_desc or name (default: id, or relevance when searching)", example = "price_asc"),
             @Parameter(name = "page", description = "Page number (0-based)", example = "0"),
             @Parameter(name = "size", description = "Page size", example = "12")
         },
         responses = {
             @ApiResponse(responseCode = "200", description = "Page of products",
                 headers = {
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Weak entity tag of the catalog epoch", example = "W/\"m1x2k3-4\""),
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "X-Did-You-Mean", description = "Spelling-corrected query the results are for, when the original query found nothing", example = "sunset print"),
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "Cache-Control", description = "Cache control directive", example = "public, max-age=60")
+                }),
+            @ApiResponse(responseCode = "304", description = "Not modified (conditional request)")
+        }
+    )
+    public ResponseEntity<Page<ProductCardDto>> listProducts(@RequestParam(value = "q", required = false) String q,
+                                                             @RequestParam(value = "price", required = false) String price,
+                                                             @RequestParam(value = "inStock", required = false) Boolean inStock,
+                                                             @RequestParam(value = "currency", required = false) String currency,
+                                                             @RequestParam(value = "sort", required = false) String sort,
+                                                             @RequestParam(value = "page", defaultValue = "0") int page,
+                                                             @RequestParam(value = "size", defaultValue = "12") int size,
+                                                             WebRequest webRequest) {
+        String etag = epochETag(catalogService.getCatalogEpoch());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProductFilter filter = ProductFilter.of(price, inStock, currency);
+        ProductSort productSort = ProductSort.fromParam(sort);
+        Pageable pageable = PageRequest.of(page, size, productSort == null ? Sort.unsorted() : productSort.toSort());
+        Page<ProductCardDto> products = catalogService.listPublished(q, filter, pageable);
+
+        // Nothing found: retry once with misspelled words corrected and tell the client what was searched
+        String correction = products.isEmpty() && page == 0 ? catalogService.correctQuery(q) : null;
+        if (correction != null) {
+            Page<ProductCardDto> corrected = catalogService.listPublished(correction, filter, pageable);
+            if (!corrected.isEmpty()) {
+                return withDidYouMean(withETag(etag, corrected), correction);
+            }
+        }
+        return withETag(etag, products);
+    }
+
+    @GetMapping(value = "/products", params = "after")
+    @Operation(summary = "List published products by cursor",
+        description = "Keyset pagination for infinite scroll. Pass an empty `after` to start, then the returned `nextCursor`. " +
+                    "No total count is computed, so deep slices cost the same as the first one.",
+        parameters = {
+            @Parameter(name = "q", description = "Full-text query across name/shortDesc/longDesc", example = "print"),
+            @Parameter(name = "price", description = "Price band: 0-25, 25-50, 50-100 or 100+", example = "25-50"),
+            @Parameter(name = "inStock", description = "Only products in stock (true) or out of stock (false)", example = "true"),
+            @Parameter(name = "currency", description = "ISO 4217 currency code", example = "EUR"),
+            @Parameter(name = "sort", description = "Order: newest, price_asc, price_desc or name (default: id)", example = "price_asc"),
+            @Parameter(name = "after", description = "Opaque cursor from the previous slice (empty for the first slice)", example = "aWQ6MTI"),
+            @Parameter(name = "size", description = "Slice size", example = "12")
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Slice of products",
+                headers = {
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Weak entity tag of the catalog epoch", example = "W/\"m1x2k3-4\""),
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "X-Did-You-Mean", description = "Spelling-corrected query the results are for, when the original query found nothing", example = "sunset print"),
                     @io.swagger.v3.oas.annotations.headers.Header(name = "Cache-Control", description = "Cache control directive", example = "public, max-age=60")
-                })
+                }),
+            @ApiResponse(responseCode = "304", description = "Not modified (conditional request)"),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor",
+                content = @Content(schema = @Schema(implementation = org.codeacademy.baltaragisapi.web.ProblemSchema.class)))
         }
     )
-    public Page<ProductCardDto> listProducts(@RequestParam(value = "q", required = false) String q,
-                                             @RequestParam(value = "page", defaultValue = "0") int page,
-                                             @RequestParam(value = "size", defaultValue = "12") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return catalogService.listPublished(q, pageable);
+    public ResponseEntity<CursorPageDto<ProductCardDto>> listProductsByCursor(@RequestParam(value = "q", required = false) String q,
+                                                                              @RequestParam(value = "price", required = false) String price,
+                                                                              @RequestParam(value = "inStock", required = false) Boolean inStock,
+                                                                              @RequestParam(value = "currency", required = false) String currency,
+                                                                              @RequestParam(value = "sort", required = false) String sort,
+                                                                              @RequestParam(value = "after") String after,
+                                                                              @RequestParam(value = "size", defaultValue = "12") int size,
+                                                                              WebRequest webRequest) {
+        String etag = epochETag(catalogService.getCatalogEpoch());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProductFilter filter = ProductFilter.of(price, inStock, currency);
+        ProductSort productSort = ProductSort.fromParam(sort);
+        CursorPageDto<ProductCardDto> products = catalogService.listPublishedAfter(q, filter, productSort, after, size);
+
+        String correction = products.getContent().isEmpty() && after.isBlank() ? catalogService.correctQuery(q) : null;
+        if (correction != null) {
+            CursorPageDto<ProductCardDto> corrected = catalogService.listPublishedAfter(correction, filter, productSort, after, size);
+            if (!corrected.getContent().isEmpty()) {
+                return withDidYouMean(withETag(etag, corrected), correction);
+            }
+        }
+        return withETag(etag, products);
+    }
+
+    @GetMapping("/products/batch")
+    @Operation(summary = "Get several products by slug",
+        description = "Product details for cart, wishlist and recently-viewed widgets in one round trip. " +
+                    "Unknown slugs are left out of the result.",
+        parameters = {
+            @Parameter(name = "slugs", description = "Comma-separated product slugs (at most 50)", example = "sunset-print,forest-sketch")
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Product details keyed by slug, in request order",
+                headers = {
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Weak entity tag of the catalog epoch", example = "W/\"m1x2k3-4\""),
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "Cache-Control", description = "Cache control directive", example = "public, max-age=60")
+                }),
+            @ApiResponse(responseCode = "304", description = "Not modified (conditional request)"),
+            @ApiResponse(responseCode = "400", description = "Too many slugs",
+                content = @Content(schema = @Schema(implementation = org.codeacademy.baltaragisapi.web.ProblemSchema.class)))
+        }
+    )
+    public ResponseEntity<Map<String, ProductDetailDto>> getProducts(@RequestParam("slugs") List<String> slugs,
+                                                                     WebRequest webRequest) {
+        String etag = epochETag(catalogService.getCatalogEpoch());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return withETag(etag, catalogService.getBySlugs(slugs));
+    }
+
+    @GetMapping("/products/suggest")
+    @Operation(summary = "Autocomplete product names",
+        description = "Search-as-you-type: products whose name or slug has a word starting with `q`, ignoring case " +
+                    "and diacritics, most popular first. Served from memory without touching the database.",
+        parameters = {
+            @Parameter(name = "q", description = "Typed text", example = "sun"),
+            @Parameter(name = "limit", description = "Maximum number of suggestions (1-20)", example = "8")
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Suggestions",
+                headers = {
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Weak entity tag of the catalog epoch", example = "W/\"m1x2k3-4\""),
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "Cache-Control", description = "Cache control directive", example = "public, max-age=60")
+                }),
+            @ApiResponse(responseCode = "304", description = "Not modified (conditional request)"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range",
+                content = @Content(schema = @Schema(implementation = org.codeacademy.baltaragisapi.web.ProblemSchema.class)))
+        }
+    )
+    public ResponseEntity<List<ProductSuggestionDto>> suggestProducts(@RequestParam(value = "q", required = false) String q,
+                                                                      @RequestParam(value = "limit", defaultValue = "8") int limit,
+                                                                      WebRequest webRequest) {
+        String etag = epochETag(catalogService.getCatalogEpoch());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return withETag(etag, catalogService.suggest(q, limit));
+    }
+
+    @GetMapping("/products/facets")
+    @Operation(summary = "Facet counts for the product listing",
+        description = "Counts per price band, availability and currency for the same `q` and filters as the listing. " +
+                    "Each facet ignores its own filter, so the other values of a selected facet keep their counts.",
+        parameters = {
+            @Parameter(name = "q", description = "Full-text query across name/shortDesc/longDesc", example = "print"),
+            @Parameter(name = "price", description = "Price band: 0-25, 25-50, 50-100 or 100+", example = "25-50"),
+            @Parameter(name = "inStock", description = "Only products in stock (true) or out of stock (false)", example = "true"),
+            @Parameter(name = "currency", description = "ISO 4217 currency code", example = "EUR")
+        },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Facet counts",
+                content = @Content(schema = @Schema(implementation = ProductFacetsDto.class)),
+                headers = {
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Weak entity tag of the catalog epoch", example = "W/\"m1x2k3-4\""),
+                    @io.swagger.v3.oas.annotations.headers.Header(name = "Cache-Control", description = "Cache control directive", example = "public, max-age=60")
+                }),
+            @ApiResponse(responseCode = "304", description = "Not modified (conditional request)"),
+            @ApiResponse(responseCode = "400", description = "Unknown price band",
+                content = @Content(schema = @Schema(implementation = org.codeacademy.baltaragisapi.web.ProblemSchema.class)))
+        }
+    )
+    public ResponseEntity<ProductFacetsDto> productFacets(@RequestParam(value = "q", required = false) String q,
+                                                          @RequestParam(value = "price", required = false) String price,
+                                                          @RequestParam(value = "inStock", required = false) Boolean inStock,
+                                                          @RequestParam(value = "currency", required = false) String currency,
+                                                          WebRequest webRequest) {
+        ProductFilter filter = ProductFilter.of(price, inStock, currency);
+        String etag = epochETag(catalogService.getCatalogEpoch());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return withETag(etag, catalogService.getFacets(q, filter));
     }
 
     @GetMapping("/products/{slug}")
     @Operation(summary = "Get product details",
         responses = {
             @ApiResponse(responseCode = "200", description = "Product detail",
+                content = @Content(schema = @Schema(implementation = ProductDetailDto.class)),
                 headers = {
                     @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Entity tag for caching", example = "\"def456\""),
                     @io.swagger.v3.oas.annotations.headers.Header(name = "Last-Modified", description = "Last modification date", example = "Wed, 21 Oct 2015 07:28:00 GMT"),
@@ -98,15 +297,27 @@ public class PublicController {
                     examples = @ExampleObject(value = "{\n  \"type\": \"https://api.baltaragis.dev/problems/not_found\",\n  \"title\": \"Not Found\",\n  \"status\": 404,\n  \"detail\": \"Product not found\",\n  \"instance\": \"/api/v1/products/bad\",\n  \"code\": \"NOT_FOUND\"\n}")))
         }
     )
-    public ResponseEntity<ProductDetailDto> getProduct(@PathVariable String slug) {
-        ProductDetailDto product = catalogService.getBySlug(slug);
-        String etag = generateETag(product);
-        OffsetDateTime lastModified = product.getUpdatedAt();
-        
-        return ResponseEntity.ok()
-            .eTag(etag)
-            .lastModified(lastModified.toInstant())
-            .body(product);
+    public ResponseEntity<byte[]> getProduct(@PathVariable String slug, WebRequest webRequest) {
+        // Answer revalidations from the version alone, before photos are loaded or JSON is written
+        EntityVersion version = catalogService.findDetailVersion(slug)
+            .orElseThrow(() -> new NotFoundException("Product not found"));
+        ResponseEntity<byte[]> notModified = ResponseBodyCache.notModified(versionETag(version),
+            webRequest.getHeader(HttpHeaders.IF_NONE_MATCH));
+        if (notModified != null) {
+            return notModified;
+        }
+
+        return responseBodyCache.serve(ResponseBodyCache.productKey(version.id(), version.version()),
+            webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), () -> {
+                ProductDetailDto product = catalogService.getBySlug(slug);
+                String etag = versionETag(new EntityVersion(product.getId(), product.getVersion()));
+                OffsetDateTime lastModified = product.getUpdatedAt();
+
+                return ResponseEntity.ok()
+                    .eTag(etag)
+                    .lastModified(lastModified.toInstant())
+                    .body(product);
+            });
     }
 
     @PostMapping("/products/{slug}/waitlist")
@@ -160,6 +371,7 @@ public class PublicController {
     @Operation(summary = "Get page by slug",
         responses = {
             @ApiResponse(responseCode = "200", description = "Page",
+                content = @Content(schema = @Schema(implementation = PageDto.class)),
                 headers = {
                     @io.swagger.v3.oas.annotations.headers.Header(name = "ETag", description = "Entity tag for caching", example = "\"ghi789\""),
                     @io.swagger.v3.oas.annotations.headers.Header(name = "Last-Modified", description = "Last modification date", example = "Wed, 21 Oct 2015 07:28:00 GMT"),
@@ -170,24 +382,50 @@ public class PublicController {
                 content = @Content(schema = @Schema(implementation = org.codeacademy.baltaragisapi.web.ProblemSchema.class)))
         }
     )
-    public ResponseEntity<PageDto> pageBySlug(@PathVariable String slug) {
+    public ResponseEntity<byte[]> pageBySlug(@PathVariable String slug, WebRequest webRequest) {
         PageDto page = pageService.getBySlug(slug);
-        String etag = generateETag(page);
+        String etag = versionETag(new EntityVersion(page.getId(), page.getVersion()));
+        ResponseEntity<byte[]> notModified = ResponseBodyCache.notModified(etag, webRequest.getHeader(HttpHeaders.IF_NONE_MATCH));
+        if (notModified != null) {
+            return notModified;
+        }
         OffsetDateTime lastModified = page.getUpdatedAt();
-        
+
+        return responseBodyCache.serve(ResponseBodyCache.pageKey(page.getId(), page.getVersion()),
+            webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), () -> ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified.toInstant())
+                .body(page));
+    }
+
+    /**
+     * Weak ETag from the catalog epoch: any listing is unchanged as long as the epoch is.
+     */
+    private static String epochETag(String epoch) {
+        return epoch != null ? "W/\"" + epoch + "\"" : null;
+    }
+
+    private static <T> ResponseEntity<T> withDidYouMean(ResponseEntity<T> response, String correction) {
         return ResponseEntity.ok()
-            .eTag(etag)
-            .lastModified(lastModified.toInstant())
-            .body(page);
+            .headers(response.getHeaders())
+            .header(DID_YOU_MEAN_HEADER, correction)
+            .body(response.getBody());
+    }
+
+    private static <T> ResponseEntity<T> withETag(String etag, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(body);
     }
 
     /**
-     * Generate ETag for caching based on entity content and last modified time
+     * Strong ETag from a row's id and optimistic-lock version; the version changes on every update.
+     * Gzipped bodies carry it with a {@code -gz} suffix, see {@link ResponseBodyCache}.
      */
-    private String generateETag(Object entity) {
-        // Simple ETag generation - in production you might want a more sophisticated approach
-        int hashCode = entity.hashCode();
-        return "\"" + Integer.toHexString(hashCode) + "\"";
+    private static String versionETag(EntityVersion version) {
+        return "\"" + Long.toHexString(version.id()) + "-" + version.version() + "\"";
     }
 }
 
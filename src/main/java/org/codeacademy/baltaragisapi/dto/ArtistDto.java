@@ -1,6 +1,7 @@
 package org.codeacademy.baltaragisapi.dto;
 
 import java.time.OffsetDateTime;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Value;
 
@@ -11,6 +12,8 @@ public class ArtistDto {
     @Schema(example = "https://cdn.example.com/hero.jpg") String heroImageUrl;
     @Schema(example = "{\"instagram\":\"https://instagram.com/baltaragis\"}") String socials;
     @Schema(description = "Last update timestamp") OffsetDateTime updatedAt;
+    @JsonIgnore Long id;
+    @JsonIgnore Long version;
 }
 
 
@@ -0,0 +1,16 @@
+package org.codeacademy.baltaragisapi.dto;
+
+import java.util.List;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(name = "CursorPage", description = "Keyset-paged slice of results without a total count")
+public class CursorPageDto<T> {
+    @Schema(description = "Items in this slice") List<T> content;
+    @Schema(example = "12", description = "Requested slice size") int size;
+    @Schema(example = "aWQ6MTI", description = "Opaque cursor for the next slice; null on the last slice") String nextCursor;
+    @Schema(example = "true") boolean hasNext;
+}
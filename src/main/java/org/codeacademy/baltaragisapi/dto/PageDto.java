@@ -1,6 +1,7 @@
 package org.codeacademy.baltaragisapi.dto;
 
 import java.time.OffsetDateTime;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Value;
 
@@ -10,6 +11,8 @@ public class PageDto {
     @Schema(example = "home") String slug;
     @Schema(example = "# Welcome to Baltaragis") String contentMd;
     @Schema(description = "Last update timestamp") OffsetDateTime updatedAt;
+    @JsonIgnore Long id;
+    @JsonIgnore Long version;
 }
 
 
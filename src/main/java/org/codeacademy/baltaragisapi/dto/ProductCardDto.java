@@ -1,5 +1,6 @@
 package org.codeacademy.baltaragisapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Value;
@@ -15,6 +16,7 @@ public class ProductCardDto {
     @Schema(example = "EUR") String currency;
     @Schema(example = "https://cdn.example.com/p/sunset1.jpg") String thumbnailUrl;
     @Schema(example = "true") boolean isInStock;
+    @JsonIgnore Integer priceCents;
 }
 
 
@@ -2,6 +2,7 @@ package org.codeacademy.baltaragisapi.dto;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Value;
@@ -20,6 +21,7 @@ public class ProductDetailDto {
     @Schema(example = "3") Integer quantity;
     @Schema(description = "Photo URLs") List<String> photos;
     @Schema(description = "Last update timestamp") OffsetDateTime updatedAt;
+    @JsonIgnore Long version;
 }
 
 
@@ -0,0 +1,18 @@
+package org.codeacademy.baltaragisapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+@Schema(name = "ProductFacets", description = "Facet counts for the product listing. Each facet is counted with " +
+        "every other active filter applied but not its own, so the alternatives within a facet stay visible.")
+public class ProductFacetsDto {
+    @Schema(example = "12", description = "Products matching the query and all filters") long total;
+    @Schema(example = "{\"0-25\": 2, \"25-50\": 7, \"50-100\": 3, \"100+\": 0}") Map<String, Long> priceBands;
+    @Schema(example = "{\"inStock\": 10, \"outOfStock\": 2}") Map<String, Long> availability;
+    @Schema(example = "{\"EUR\": 12}") Map<String, Long> currencies;
+}
@@ -0,0 +1,13 @@
+package org.codeacademy.baltaragisapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(name = "ProductSuggestion", description = "Autocomplete entry for search-as-you-type")
+public class ProductSuggestionDto {
+    @Schema(example = "Sunset Print") String name;
+    @Schema(example = "sunset-print") String slug;
+}
@@ -0,0 +1,18 @@
+package org.codeacademy.baltaragisapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+@Schema(name = "TranslationDelta", description = "Translations of a locale changed or deleted since a version. " +
+        "Pass the returned version as the next since; a key may be repeated across consecutive deltas.")
+public class TranslationDeltaDto {
+    @Schema(example = "1760700000000", description = "Version to pass as since on the next sync") long version;
+    @Schema(example = "{\"common.loading\": \"Loading...\"}") Map<String, String> changed;
+    @Schema(example = "[\"common.obsolete\"]") List<String> deleted;
+}
@@ -0,0 +1,30 @@
+package org.codeacademy.baltaragisapi.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Response DTO for bulk translation upserts.
+ */
+@Value
+@Builder
+@Schema(name = "BulkTranslationResponse", description = "Number of translation rows per outcome of a bulk upsert")
+public class BulkTranslationResponse {
+
+    @Schema(example = "120", description = "Rows inserted for keys the locale did not have")
+    int created;
+
+    @Schema(example = "8", description = "Existing rows whose value changed")
+    int updated;
+
+    @Schema(example = "4872", description = "Existing rows already holding the same value, left untouched")
+    int unchanged;
+
+    /**
+     * Sum of two results, e.g. of consecutive batches.
+     */
+    public BulkTranslationResponse plus(BulkTranslationResponse other) {
+        return new BulkTranslationResponse(created + other.created, updated + other.updated, unchanged + other.unchanged);
+    }
+}
@@ -0,0 +1,30 @@
+package org.codeacademy.baltaragisapi.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+import java.time.OffsetDateTime;
+
+/**
+ * Response DTO for translation keys that were looked up but do not exist.
+ */
+@Value
+@Builder
+@Schema(name = "MissingTranslationResponse", description = "Translation key that fell back to the key itself")
+public class MissingTranslationResponse {
+
+    @Schema(example = "en-US", description = "Locale code")
+    String locale;
+
+    @Schema(example = "checkout.gift_wrap", description = "Missing translation key")
+    String key;
+
+    @Schema(example = "42", description = "Lookups that missed")
+    long count;
+
+    @Schema(description = "First recorded miss")
+    OffsetDateTime firstSeenAt;
+
+    @Schema(description = "Latest recorded miss (as of the last flush)")
+    OffsetDateTime lastSeenAt;
+}
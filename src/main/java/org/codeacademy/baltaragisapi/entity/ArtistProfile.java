@@ -29,6 +29,10 @@ public class ArtistProfile {
 
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
 
 
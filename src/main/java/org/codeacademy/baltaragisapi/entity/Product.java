@@ -8,7 +8,10 @@ import java.time.OffsetDateTime;
 @Entity
 @Table(name = "product", indexes = {
         @Index(name = "idx_product_slug", columnList = "slug", unique = true),
-        @Index(name = "idx_product_published", columnList = "is_published")
+        @Index(name = "idx_product_published", columnList = "is_published"),
+        @Index(name = "idx_product_published_created", columnList = "is_published, created_at, id"),
+        @Index(name = "idx_product_published_price", columnList = "is_published, price_cents, id"),
+        @Index(name = "idx_product_published_name", columnList = "is_published, name, id")
 })
 @Getter
 @Setter
@@ -48,6 +51,10 @@ public class Product {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
 
 
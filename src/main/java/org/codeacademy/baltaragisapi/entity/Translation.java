@@ -12,7 +12,8 @@ import java.time.OffsetDateTime;
 @Entity
 @Table(name = "translation", indexes = {
     @Index(name = "idx_translation_locale_key", columnList = "locale, translation_key", unique = true),
-    @Index(name = "idx_translation_locale", columnList = "locale")
+    @Index(name = "idx_translation_locale", columnList = "locale"),
+    @Index(name = "idx_translation_locale_updated", columnList = "locale, updated_at")
 })
 @Getter
 @Setter
@@ -0,0 +1,38 @@
+package org.codeacademy.baltaragisapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.OffsetDateTime;
+
+/**
+ * How often a translation key was looked up for a locale without existing.
+ */
+@Entity
+@Table(name = "translation_miss", indexes = {
+    @Index(name = "ux_translation_miss_key_locale", columnList = "translation_key, locale", unique = true),
+    @Index(name = "idx_translation_miss_count", columnList = "miss_count")
+})
+@Getter
+@Setter
+public class TranslationMiss {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "translation_key", nullable = false, length = 255)
+    private String key;
+
+    @Column(nullable = false, length = 10)
+    private String locale;
+
+    @Column(name = "miss_count", nullable = false)
+    private Long missCount;
+
+    @Column(name = "first_seen_at", nullable = false)
+    private OffsetDateTime firstSeenAt;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private OffsetDateTime lastSeenAt;
+}
@@ -0,0 +1,32 @@
+package org.codeacademy.baltaragisapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.OffsetDateTime;
+
+/**
+ * Marker for a deleted translation, so clients syncing deltas learn about the removal.
+ */
+@Entity
+@Table(name = "translation_tombstone", indexes = {
+    @Index(name = "ux_translation_tombstone_key_locale", columnList = "translation_key, locale", unique = true),
+    @Index(name = "idx_translation_tombstone_locale_deleted", columnList = "locale, deleted_at")
+})
+@Getter
+@Setter
+public class TranslationTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "translation_key", nullable = false, length = 255)
+    private String key;
+
+    @Column(nullable = false, length = 10)
+    private String locale;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+}
@@ -0,0 +1,9 @@
+package org.codeacademy.baltaragisapi.event;
+
+/**
+ * Published whenever a page is created, updated or deleted.
+ *
+ * @param pageId ID of the page that changed
+ */
+public record PageChangedEvent(Long pageId) {
+}
@@ -0,0 +1,10 @@
+package org.codeacademy.baltaragisapi.event;
+
+/**
+ * Published whenever a product, one of its photos or its stock changes, and when a product is deleted.
+ * Listeners re-read the product by id, so the event carries no state that could go stale.
+ *
+ * @param productId ID of the product that changed
+ */
+public record ProductChangedEvent(Long productId) {
+}
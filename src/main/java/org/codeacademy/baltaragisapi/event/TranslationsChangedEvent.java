@@ -0,0 +1,9 @@
+package org.codeacademy.baltaragisapi.event;
+
+/**
+ * Published whenever a translation is created, updated or deleted.
+ *
+ * @param locale Locale whose translations changed
+ */
+public record TranslationsChangedEvent(String locale) {
+}
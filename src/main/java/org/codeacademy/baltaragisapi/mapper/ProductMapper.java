@@ -4,6 +4,7 @@ import org.codeacademy.baltaragisapi.dto.ProductCardDto;
 import org.codeacademy.baltaragisapi.dto.ProductDetailDto;
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.entity.ProductPhoto;
+import org.codeacademy.baltaragisapi.repository.ProductCardRow;
 import org.mapstruct.*;
 
 import java.math.BigDecimal;
@@ -13,10 +14,9 @@ import java.util.List;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface ProductMapper {
 
-    @Mapping(target = "price", expression = "java(toDecimalString(product.getPriceCents()))")
-    @Mapping(target = "thumbnailUrl", ignore = true)
-    @Mapping(target = "isInStock", expression = "java(product.getQuantity() != null && product.getQuantity() > 0)")
-    ProductCardDto toCard(Product product);
+    @Mapping(target = "price", expression = "java(toDecimalString(row.priceCents()))")
+    @Mapping(target = "isInStock", expression = "java(row.quantity() != null && row.quantity() > 0)")
+    ProductCardDto toCard(ProductCardRow row, String thumbnailUrl);
 
     @Mapping(target = "price", expression = "java(toDecimalString(product.getPriceCents()))")
     @Mapping(target = "isInStock", expression = "java(product.getQuantity() != null && product.getQuantity() > 0)")
@@ -2,13 +2,22 @@ package org.codeacademy.baltaragisapi.repository;
 
 import org.codeacademy.baltaragisapi.entity.ArtistProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ArtistProfileRepository extends JpaRepository<ArtistProfile, Long> {
     default Optional<ArtistProfile> fetchSingleProfile() {
         return findAll().stream().findFirst();
     }
+
+    default Optional<EntityVersion> fetchSingleProfileVersion() {
+        return findAllVersions().stream().findFirst();
+    }
+
+    @Query("select new org.codeacademy.baltaragisapi.repository.EntityVersion(a.id, a.version) from ArtistProfile a order by a.id")
+    List<EntityVersion> findAllVersions();
 }
 
 
@@ -0,0 +1,10 @@
+package org.codeacademy.baltaragisapi.repository;
+
+/**
+ * Identity and optimistic-lock version of a row, enough to build a validator without loading the entity.
+ *
+ * @param id Row ID
+ * @param version Value of the row's {@code @Version} column
+ */
+public record EntityVersion(Long id, Long version) {
+}
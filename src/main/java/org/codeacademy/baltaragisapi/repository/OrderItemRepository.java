@@ -2,8 +2,31 @@ package org.codeacademy.baltaragisapi.repository;
 
 import org.codeacademy.baltaragisapi.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
-}
 
+    /**
+     * Units sold per product across all orders that were not cancelled.
+     *
+     * @return One row per product that has been ordered at least once
+     */
+    @Query("SELECT oi.product.id AS productId, SUM(oi.qty) AS units FROM OrderItem oi" +
+            " WHERE oi.order.status <> org.codeacademy.baltaragisapi.enums.OrderStatus.CANCELLED" +
+            " GROUP BY oi.product.id")
+    List<ProductSales> findUnitsSoldPerProduct();
 
+    /**
+     * Units sold of one product across all orders that were not cancelled.
+     *
+     * @param productId The product ID
+     * @return Units sold, zero if never ordered
+     */
+    @Query("SELECT COALESCE(SUM(oi.qty), 0) FROM OrderItem oi" +
+            " WHERE oi.product.id = :productId" +
+            " AND oi.order.status <> org.codeacademy.baltaragisapi.enums.OrderStatus.CANCELLED")
+    long countUnitsSold(@Param("productId") Long productId);
+}
@@ -0,0 +1,46 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Listing queries that project products straight into {@link ProductCardRow}s.
+ */
+public interface ProductCardRepository {
+
+    /**
+     * Find a page of product cards matching the given specification.
+     *
+     * @param spec The filter to apply, may be null
+     * @param pageable The page to fetch
+     * @return Page of card rows
+     */
+    Page<ProductCardRow> findCards(Specification<Product> spec, Pageable pageable);
+
+    /**
+     * Find up to {@code limit} product cards positioned after the given cursor, in the given order.
+     * Seeks on the (sort key, id) pair instead of using OFFSET and never issues a count query.
+     *
+     * @param spec The filter to apply, may be null
+     * @param sort The listing order, or null for ascending id
+     * @param after The cursor to continue from, or null for the first slice
+     * @param limit The maximum number of rows to return
+     * @return Card rows in listing order
+     */
+    List<ProductCardRow> findCardsAfter(Specification<Product> spec, ProductSort sort, ProductCursor after, int limit);
+
+    /**
+     * Count matching products per currency and bucket in one grouped aggregate query: one
+     * {@code SUM(CASE WHEN bucket THEN 1 ELSE 0 END)} column per bucket, grouped by currency.
+     *
+     * @param spec The filter every counted product matches, may be null
+     * @param buckets Conditions to count separately
+     * @return Counts by currency, each with one count per bucket in bucket order
+     */
+    Map<String, long[]> countByCurrency(Specification<Product> spec, List<Specification<Product>> buckets);
+}
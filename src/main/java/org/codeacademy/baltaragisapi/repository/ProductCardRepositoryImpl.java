@@ -0,0 +1,155 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class ProductCardRepositoryImpl implements ProductCardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductCardRow> findCards(Specification<Product> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductCardRow> query = cb.createQuery(ProductCardRow.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(selectCard(root, cb));
+        applySpecification(spec, root, query, cb);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<ProductCardRow> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<ProductCardRow> content = typedQuery.getResultList();
+
+        // Skips the count query when the first page is not full
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ProductCardRow> findCardsAfter(Specification<Product> spec, ProductSort sort, ProductCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductCardRow> query = cb.createQuery(ProductCardRow.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(selectCard(root, cb));
+        applySpecification(spec, root, query, cb);
+        if (after != null) {
+            Predicate seek = seek(sort, after, root, cb);
+            query.where(query.getRestriction() == null ? seek : cb.and(query.getRestriction(), seek));
+        }
+        if (sort == null) {
+            query.orderBy(cb.asc(root.get("id")));
+        } else {
+            query.orderBy(QueryUtils.toOrders(sort.toSort(), root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Rows strictly after the cursor in (key, id) order, written out as
+     * {@code key > k OR (key = k AND id > i)} (or the descending mirror) since JPA has no row comparison.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seek(ProductSort sort, ProductCursor after, Root<Product> root, CriteriaBuilder cb) {
+        Path<Long> id = root.get("id");
+        if (sort == null) {
+            return cb.greaterThan(id, after.lastId());
+        }
+        Path<Comparable> key = root.get(sort.getAttribute());
+        Comparable value = sort.parseKey(after.key());
+        if (sort.getDirection() == Sort.Direction.ASC) {
+            return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, after.lastId())));
+        }
+        return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, after.lastId())));
+    }
+
+    private CompoundSelection<ProductCardRow> selectCard(Root<Product> root, CriteriaBuilder cb) {
+        return cb.construct(ProductCardRow.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("slug"),
+                root.get("priceCents"),
+                root.get("currency"),
+                root.get("quantity"),
+                root.get("createdAt"));
+    }
+
+    @Override
+    public Map<String, long[]> countByCurrency(Specification<Product> spec, List<Specification<Product>> buckets) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        Path<String> currency = root.get("currency");
+        List<Selection<?>> columns = new ArrayList<>();
+        columns.add(currency);
+        for (Specification<Product> bucket : buckets) {
+            Expression<Long> hit = cb.<Long>selectCase()
+                    .when(bucket.toPredicate(root, query, cb), cb.literal(1L))
+                    .otherwise(cb.literal(0L));
+            columns.add(cb.sum(hit));
+        }
+        query.multiselect(columns);
+        applySpecification(spec, root, query, cb);
+        query.groupBy(currency);
+
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            long[] bucketCounts = new long[buckets.size()];
+            for (int i = 0; i < bucketCounts.length; i++) {
+                Number count = (Number) row.get(i + 1);
+                bucketCounts[i] = count != null ? count.longValue() : 0;
+            }
+            counts.put(row.get(0, String.class), bucketCounts);
+        }
+        return counts;
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applySpecification(Specification<Product> spec, Root<Product> root,
+                                    CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Card columns of a product, selected directly by the listing query so that no {@code Product}
+ * entity (and none of its TEXT columns) is loaded into the persistence context.
+ */
+public record ProductCardRow(Long id, String name, String slug, Integer priceCents, String currency, Integer quantity,
+                             OffsetDateTime createdAt) {
+}
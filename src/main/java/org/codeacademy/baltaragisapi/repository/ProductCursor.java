@@ -0,0 +1,63 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Position in a keyset-paged product listing: the sort key of the last row a client has seen.
+ * Serialized as an opaque URL-safe token so clients never depend on its contents.
+ *
+ * @param sort The listing order the cursor belongs to, or null for the default id order
+ * @param key Sort key of the last row, or null for the default id order
+ * @param lastId Id of the last row
+ */
+public record ProductCursor(ProductSort sort, String key, long lastId) {
+
+    private static final String ID_PREFIX = "id:";
+
+    public ProductCursor(long lastId) {
+        this(null, null, lastId);
+    }
+
+    /**
+     * Cursor positioned after the given row in the given order.
+     */
+    public static ProductCursor after(ProductSort sort, ProductCardRow row) {
+        return sort == null ? new ProductCursor(row.id()) : new ProductCursor(sort, sort.keyOf(row), row.id());
+    }
+
+    public String encode() {
+        String raw = sort == null ? ID_PREFIX + lastId : sort.getParam() + ":" + lastId + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token The opaque cursor token
+     * @return The decoded cursor
+     * @throws ValidationException if the token is malformed
+     */
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (raw.startsWith(ID_PREFIX)) {
+                return new ProductCursor(Long.parseLong(raw.substring(ID_PREFIX.length())));
+            }
+            // <sort>:<lastId>:<key>, with the key last since names may contain colons
+            String[] parts = raw.split(":", 3);
+            ProductSort sort = parts.length == 3 ? ProductSort.lookup(parts[0]) : null;
+            if (sort == null) {
+                throw new IllegalArgumentException("Unknown cursor format");
+            }
+            sort.parseKey(parts[2]);
+            return new ProductCursor(sort, parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor", Map.of("after", "Cursor is malformed or expired"));
+        }
+    }
+}
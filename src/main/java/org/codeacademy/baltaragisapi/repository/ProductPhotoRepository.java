@@ -1,12 +1,23 @@
 package org.codeacademy.baltaragisapi.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.codeacademy.baltaragisapi.entity.ProductPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductPhotoRepository extends JpaRepository<ProductPhoto, Long> {
     List<ProductPhoto> findAllByProductIdOrderBySortOrderAscIdAsc(Long productId);
     ProductPhoto findFirstByProductIdOrderBySortOrderAscIdAsc(Long productId);
+
+    /**
+     * Find the photos of several products in one query, each product's photos in display order.
+     *
+     * @param productIds The product IDs
+     * @return Photos of all given products
+     */
+    List<ProductPhoto> findAllByProductIdInOrderBySortOrderAscIdAsc(Collection<Long> productIds);
     
     /**
      * Find the maximum sort order for a product's photos.
@@ -15,6 +26,20 @@ public interface ProductPhotoRepository extends JpaRepository<ProductPhoto, Long
      * @return The maximum sort order, or null if no photos exist
      */
     Integer findMaxSortOrderByProductId(Long productId);
+
+    /**
+     * Find the first photo (lowest sort order, then lowest id) of every given product in one query.
+     * Products without photos are simply absent from the result.
+     *
+     * @param productIds The product IDs
+     * @return One thumbnail per product that has at least one photo
+     */
+    @Query(value = "SELECT ranked.product_id AS productId, ranked.url AS url FROM (" +
+            " SELECT pp.product_id, pp.url," +
+            " ROW_NUMBER() OVER (PARTITION BY pp.product_id ORDER BY pp.sort_order ASC, pp.id ASC) AS rn" +
+            " FROM product_photo pp WHERE pp.product_id IN (:productIds)" +
+            ") ranked WHERE ranked.rn = 1", nativeQuery = true)
+    List<ProductThumbnail> findThumbnailsByProductIds(@Param("productIds") Collection<Long> productIds);
 }
 
 
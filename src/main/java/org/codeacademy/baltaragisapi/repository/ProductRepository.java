@@ -5,14 +5,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>, ProductCardRepository {
 
     Optional<Product> findBySlug(String slug);
 
+    List<Product> findBySlugIn(Collection<String> slugs);
+
+    @Query("select p.slug from Product p")
+    List<String> findAllSlugs();
+
+    @Query("select new org.codeacademy.baltaragisapi.repository.EntityVersion(p.id, p.version) from Product p where p.slug = :slug")
+    Optional<EntityVersion> findVersionBySlug(@Param("slug") String slug);
+
     boolean existsBySlug(String slug);
 
     Page<Product> findAllByIsPublishedTrue(Pageable pageable);
@@ -0,0 +1,11 @@
+package org.codeacademy.baltaragisapi.repository;
+
+/**
+ * Projection of the units sold per product, used to rank suggestions by popularity.
+ */
+public interface ProductSales {
+
+    Long getProductId();
+
+    Long getUnits();
+}
@@ -0,0 +1,102 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Supported orderings of the public product listing. Each one is a sort key followed by the id as
+ * tie-breaker, matching a {@code (is_published, key, id)} index so the database walks the index in
+ * order instead of sorting, and so keyset cursors can seek on {@code (key, id)}.
+ */
+public enum ProductSort {
+    NEWEST("newest", "createdAt", Sort.Direction.DESC),
+    PRICE_ASC("price_asc", "priceCents", Sort.Direction.ASC),
+    PRICE_DESC("price_desc", "priceCents", Sort.Direction.DESC),
+    NAME("name", "name", Sort.Direction.ASC);
+
+    private final String param;
+    private final String attribute;
+    private final Sort.Direction direction;
+
+    ProductSort(String param, String attribute, Sort.Direction direction) {
+        this.param = param;
+        this.attribute = attribute;
+        this.direction = direction;
+    }
+
+    /**
+     * Value of the {@code sort} query parameter, e.g. {@code price_asc}.
+     */
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Product attribute sorted on before the id.
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, attribute, "id");
+    }
+
+    /**
+     * Sort key of a row, as stored in a cursor.
+     */
+    public String keyOf(ProductCardRow row) {
+        return switch (this) {
+            case NEWEST -> row.createdAt().toString();
+            case PRICE_ASC, PRICE_DESC -> row.priceCents().toString();
+            case NAME -> row.name();
+        };
+    }
+
+    /**
+     * Parse a sort key produced by {@link #keyOf}.
+     *
+     * @throws IllegalArgumentException or {@link java.time.format.DateTimeParseException} if malformed
+     */
+    public Comparable<?> parseKey(String key) {
+        return switch (this) {
+            case NEWEST -> OffsetDateTime.parse(key);
+            case PRICE_ASC, PRICE_DESC -> Integer.valueOf(key);
+            case NAME -> key;
+        };
+    }
+
+    /**
+     * Parse the {@code sort} query parameter.
+     *
+     * @param param Parameter value, may be blank
+     * @return The sort, or null for the default id order
+     * @throws ValidationException if the value names no sort
+     */
+    public static ProductSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return null;
+        }
+        ProductSort sort = lookup(param.trim());
+        if (sort == null) {
+            throw new ValidationException("Invalid sort", Map.of("sort", "Sort must be one of newest, price_asc, price_desc, name"));
+        }
+        return sort;
+    }
+
+    static ProductSort lookup(String param) {
+        for (ProductSort sort : values()) {
+            if (sort.param.equals(param)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package org.codeacademy.baltaragisapi.repository;
+
+/**
+ * Projection of a product's first photo, used to resolve listing thumbnails in bulk.
+ */
+public interface ProductThumbnail {
+
+    Long getProductId();
+
+    String getUrl();
+}
@@ -0,0 +1,38 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Set-based translation writes issued as JDBC batches, for imports where one statement per key
+ * would dominate (IDENTITY ids keep Hibernate from batching inserts).
+ */
+public interface TranslationBatchRepository {
+
+    /**
+     * Insert new translations of one locale.
+     *
+     * @param locale The locale
+     * @param translations Keys (not yet present) to their values
+     * @param updatedAt Timestamp to store as updated_at
+     */
+    void batchInsert(String locale, Map<String, String> translations, OffsetDateTime updatedAt);
+
+    /**
+     * Overwrite values of existing translations of one locale.
+     *
+     * @param locale The locale
+     * @param translations Existing keys to their new values
+     * @param updatedAt Timestamp to store as updated_at
+     */
+    void batchUpdate(String locale, Map<String, String> translations, OffsetDateTime updatedAt);
+
+    /**
+     * Remove the tombstones of keys that are written again.
+     *
+     * @param locale The locale
+     * @param keys Keys being recreated
+     */
+    void batchDeleteTombstones(String locale, Collection<String> keys);
+}
@@ -0,0 +1,55 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+class TranslationBatchRepositoryImpl implements TranslationBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TranslationBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void batchInsert(String locale, Map<String, String> translations, OffsetDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.from(updatedAt.toInstant());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO translation (translation_key, locale, translation_value, updated_at) VALUES (?, ?, ?, ?)",
+                translations.entrySet(), BATCH_SIZE, (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setString(2, locale);
+                    ps.setString(3, entry.getValue());
+                    ps.setTimestamp(4, timestamp);
+                });
+    }
+
+    @Override
+    public void batchUpdate(String locale, Map<String, String> translations, OffsetDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.from(updatedAt.toInstant());
+        jdbcTemplate.batchUpdate(
+                "UPDATE translation SET translation_value = ?, updated_at = ? WHERE locale = ? AND translation_key = ?",
+                translations.entrySet(), BATCH_SIZE, (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setString(3, locale);
+                    ps.setString(4, entry.getKey());
+                });
+    }
+
+    @Override
+    public void batchDeleteTombstones(String locale, Collection<String> keys) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM translation_tombstone WHERE locale = ? AND translation_key = ?",
+                keys, BATCH_SIZE, (ps, key) -> {
+                    ps.setString(1, locale);
+                    ps.setString(2, key);
+                });
+    }
+}
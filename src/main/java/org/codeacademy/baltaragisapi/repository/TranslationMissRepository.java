@@ -0,0 +1,39 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.entity.TranslationMiss;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Repository for TranslationMiss entities.
+ */
+public interface TranslationMissRepository extends JpaRepository<TranslationMiss, Long> {
+
+    /**
+     * Add misses to an existing row.
+     *
+     * @return Number of rows updated, 0 when the (locale, key) pair has no row yet
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TranslationMiss m SET m.missCount = m.missCount + :count, m.lastSeenAt = :seenAt " +
+           "WHERE m.locale = :locale AND m.key = :key")
+    int addMisses(@Param("locale") String locale, @Param("key") String key,
+                  @Param("count") long count, @Param("seenAt") OffsetDateTime seenAt);
+
+    /**
+     * Most frequently missed keys first, leaving out keys that exist by now. Filtering in the query
+     * keeps keys created since they were missed from taking the top slots.
+     */
+    @Query("SELECT m FROM TranslationMiss m WHERE NOT EXISTS " +
+           "(SELECT t.id FROM Translation t WHERE t.locale = m.locale AND t.key = m.key) " +
+           "ORDER BY m.missCount DESC, m.id ASC")
+    List<TranslationMiss> findUnresolved(Pageable pageable);
+}
@@ -1,18 +1,26 @@
 package org.codeacademy.baltaragisapi.repository;
 
+import jakarta.persistence.QueryHint;
 import org.codeacademy.baltaragisapi.entity.Translation;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Translation entities.
  */
-public interface TranslationRepository extends JpaRepository<Translation, Long> {
+public interface TranslationRepository extends JpaRepository<Translation, Long>, TranslationBatchRepository {
+
+    int EXPORT_FETCH_SIZE = 500;
     
     /**
      * Find all translations for a specific locale.
@@ -64,4 +72,38 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
      */
     @Query("SELECT t.key, t.value FROM Translation t WHERE t.locale = :locale ORDER BY t.key")
     List<Object[]> findKeyValuePairsByLocale(@Param("locale") String locale);
+
+    /**
+     * Get key-value pairs of a locale changed at or after a point in time.
+     *
+     * @param locale The locale
+     * @param since Inclusive lower bound on updated_at
+     * @return Key and value of each changed translation
+     */
+    @Query("SELECT t.key, t.value FROM Translation t WHERE t.locale = :locale AND t.updatedAt >= :since ORDER BY t.key")
+    List<Object[]> findKeyValuePairsChangedSince(@Param("locale") String locale, @Param("since") OffsetDateTime since);
+
+    /**
+     * Get the current values of some keys of a locale.
+     *
+     * @param locale The locale
+     * @param keys Keys to look up
+     * @return Key and value of each key that exists
+     */
+    @Query("SELECT t.key, t.value FROM Translation t WHERE t.locale = :locale AND t.key IN :keys")
+    List<Object[]> findKeyValuePairsByLocaleAndKeys(@Param("locale") String locale, @Param("keys") Collection<String> keys);
+
+    /**
+     * Stream locale, key and value of every translation, ordered by locale then key, fetching
+     * {@value #EXPORT_FETCH_SIZE} rows at a time. Must be consumed inside a transaction and closed.
+     *
+     * @param locale Only this locale, or null for all
+     * @return Rows of locale, key, value
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT t.locale, t.key, t.value FROM Translation t WHERE :locale IS NULL OR t.locale = :locale ORDER BY t.locale, t.key")
+    Stream<Object[]> streamForExport(@Param("locale") String locale);
+
+    @Query("SELECT MAX(t.updatedAt) FROM Translation t WHERE t.locale = :locale")
+    OffsetDateTime findLastUpdatedAt(@Param("locale") String locale);
 }
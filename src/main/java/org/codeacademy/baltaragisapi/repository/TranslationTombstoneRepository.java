@@ -0,0 +1,37 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.entity.TranslationTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for TranslationTombstone entities.
+ */
+public interface TranslationTombstoneRepository extends JpaRepository<TranslationTombstone, Long> {
+
+    Optional<TranslationTombstone> findByKeyAndLocale(String key, String locale);
+
+    /**
+     * Remove the tombstone of a key that has been written again.
+     *
+     * @return Number of tombstones removed
+     */
+    @Modifying
+    @Query("DELETE FROM TranslationTombstone t WHERE t.key = :key AND t.locale = :locale")
+    int deleteByKeyAndLocale(@Param("key") String key, @Param("locale") String locale);
+
+    /**
+     * Keys of a locale deleted at or after a point in time.
+     */
+    @Query("SELECT t.key FROM TranslationTombstone t WHERE t.locale = :locale AND t.deletedAt >= :since ORDER BY t.key")
+    List<String> findKeysDeletedSince(@Param("locale") String locale, @Param("since") OffsetDateTime since);
+
+    @Query("SELECT MAX(t.deletedAt) FROM TranslationTombstone t WHERE t.locale = :locale")
+    OffsetDateTime findLastDeletedAt(@Param("locale") String locale);
+}
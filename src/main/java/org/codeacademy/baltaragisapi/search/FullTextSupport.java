@@ -0,0 +1,31 @@
+package org.codeacademy.baltaragisapi.search;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells whether the database can serve {@code MATCH ... AGAINST} queries, i.e. whether
+ * {@link MySqlFullTextFunctions} was contributed for the active dialect.
+ */
+@Slf4j
+@Component
+public class FullTextSupport {
+
+    private final boolean available;
+
+    public FullTextSupport(EntityManagerFactory entityManagerFactory) {
+        this.available = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getQueryEngine()
+                .getSqmFunctionRegistry()
+                .findFunctionDescriptor(MySqlFullTextFunctions.BOOLEAN) != null;
+        if (!available) {
+            log.info("Database full-text search unavailable for this dialect, product search will use LIKE");
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
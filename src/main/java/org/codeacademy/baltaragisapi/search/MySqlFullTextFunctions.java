@@ -0,0 +1,36 @@
+package org.codeacademy.baltaragisapi.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers MySQL {@code MATCH ... AGAINST} as HQL/criteria functions over three text columns.
+ * <p>
+ * Only contributed when running on a MySQL dialect; other databases (H2 in tests) simply do not
+ * have the functions, and callers check {@link #NATURAL_LANGUAGE} before using them.
+ */
+public class MySqlFullTextFunctions implements FunctionContributor {
+
+    /** Relevance score in natural language mode: {@code match_natural(col1, col2, col3, text)}. */
+    public static final String NATURAL_LANGUAGE = "match_natural";
+
+    /** Match in boolean mode, positive when matched: {@code match_boolean(col1, col2, col3, text)}. */
+    public static final String BOOLEAN = "match_boolean";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof MySQLDialect)) {
+            return;
+        }
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        functionContributions.getFunctionRegistry().registerPattern(NATURAL_LANGUAGE,
+                "match(?1, ?2, ?3) against (?4 in natural language mode)", doubleType);
+        functionContributions.getFunctionRegistry().registerPattern(BOOLEAN,
+                "match(?1, ?2, ?3) against (?4 in boolean mode)", doubleType);
+    }
+}
@@ -0,0 +1,205 @@
+package org.codeacademy.baltaragisapi.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.config.SearchProperties;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over published products.
+ * <p>
+ * Terms are diacritic-folded tokens of name, short and long description, weighted by field
+ * (name counts most). Every query token must match a term exactly or as a prefix; hits are ranked
+ * by tf-idf with exact matches scoring above prefix matches. The index is built once on startup and
+ * patched per product after each committed admin change, so lookups never touch the database.
+ * Nodes configured with {@code app.search.engine=database} keep no index at all.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float SHORT_DESC_WEIGHT = 2f;
+    private static final float LONG_DESC_WEIGHT = 1f;
+    private static final float PREFIX_MATCH_FACTOR = 0.5f;
+
+    private final ProductRepository productRepository;
+    private final SearchProperties searchProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByProduct = new HashMap<>();
+    private volatile boolean ready;
+
+    public ProductSearchIndex(ProductRepository productRepository, SearchProperties searchProperties) {
+        this.productRepository = productRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    /**
+     * Whether the initial build has completed and search results can be trusted.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Product> products = productRepository.findByIsPublishedTrue();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByProduct.clear();
+            products.forEach(this::addUnlocked);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built with {} products and {} terms", products.size(), postings.size());
+    }
+
+    // Runs before the catalog snapshot is swapped, so a new catalog epoch never serves old search hits
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        productRepository.findById(event.productId())
+                .filter(Product::getIsPublished)
+                .ifPresentOrElse(this::put, () -> remove(event.productId()));
+    }
+
+    private boolean isEnabled() {
+        return searchProperties.getEngine() == SearchProperties.Engine.MEMORY;
+    }
+
+    /**
+     * Add or replace a product in the index.
+     */
+    public void put(Product product) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(product.getId());
+            addUnlocked(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a product from the index; unknown ids are ignored.
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find products matching every token of the query, best match first.
+     *
+     * @param query Free-text query
+     * @return Product IDs ordered by descending relevance, then ascending id
+     */
+    public List<Long> search(String query) {
+        List<String> tokens = TextNormalizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (String token : tokens) {
+                Map<Long, Float> tokenScores = scoreToken(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score every product containing a term equal to, or starting with, the token.
+     * A product matching several expansions of the token keeps its best one.
+     */
+    private Map<Long, Float> scoreToken(String token) {
+        Map<Long, Float> scores = new HashMap<>();
+        int documentCount = Math.max(termsByProduct.size(), 1);
+        for (Map.Entry<String, Map<Long, Float>> term : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            float idf = (float) Math.log(1 + (double) documentCount / term.getValue().size());
+            float factor = term.getKey().equals(token) ? 1f : PREFIX_MATCH_FACTOR;
+            term.getValue().forEach((id, weight) -> scores.merge(id, weight * idf * factor, Math::max));
+        }
+        return scores;
+    }
+
+    private void addUnlocked(Product product) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, product.getName(), NAME_WEIGHT);
+        addField(weights, product.getShortDesc(), SHORT_DESC_WEIGHT);
+        addField(weights, product.getLongDesc(), LONG_DESC_WEIGHT);
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(product.getId(), weight));
+        termsByProduct.put(product.getId(), new HashSet<>(weights.keySet()));
+    }
+
+    private void removeUnlocked(Long productId) {
+        Set<String> terms = termsByProduct.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> docs = postings.get(term);
+            docs.remove(productId);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String token : TextNormalizer.tokenize(text)) {
+            weights.merge(token, fieldWeight, Float::sum);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.codeacademy.baltaragisapi.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.dto.ProductSuggestionDto;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.OrderItemRepository;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.repository.ProductSales;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Prefix autocomplete over published product names and slugs.
+ * <p>
+ * Every word start of the diacritic-folded name and slug is a key ("sunset print", "print"), kept in
+ * one sorted array. A lookup binary-searches the first key with the typed prefix and scans the
+ * matching run, keeping the top entries by units sold in a fixed-size buffer, so a call costs a
+ * few string comparisons and allocates only its result. The array is immutable and swapped on
+ * change, so lookups never lock. After startup only the changed product is re-read, and its keys
+ * are dropped from and merged into a copy of the array in one linear pass, without re-sorting.
+ */
+@Slf4j
+@Component
+public class ProductSuggester {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::popularity).reversed()
+            .thenComparing(Entry::name)
+            .thenComparingLong(Entry::id);
+
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    // Replaced under the lock of this
+    private volatile Dictionary dictionary = new Dictionary(new String[0], new Entry[0]);
+
+    public ProductSuggester(ProductRepository productRepository, OrderItemRepository orderItemRepository) {
+        this.productRepository = productRepository;
+        this.orderItemRepository = orderItemRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, Long> unitsSold = orderItemRepository.findUnitsSoldPerProduct().stream()
+                .collect(Collectors.toMap(ProductSales::getProductId, ProductSales::getUnits));
+        List<Product> products = productRepository.findByIsPublishedTrue();
+        List<Map.Entry<String, Entry>> pairs = new ArrayList<>();
+        for (Product product : products) {
+            Entry entry = entry(product, unitsSold.getOrDefault(product.getId(), 0L));
+            for (String key : entry.keys) {
+                pairs.add(Map.entry(key, entry));
+            }
+        }
+        pairs.sort(Map.Entry.comparingByKey());
+
+        String[] keys = new String[pairs.size()];
+        Entry[] owners = new Entry[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            keys[i] = pairs.get(i).getKey();
+            owners[i] = pairs.get(i).getValue();
+        }
+        dictionary = new Dictionary(keys, owners);
+        log.info("Suggestion dictionary built with {} products and {} keys", products.size(), keys.length);
+    }
+
+    // Runs before the catalog snapshot is swapped, so a new catalog epoch never serves old suggestions
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Product product = productRepository.findById(event.productId())
+                .filter(Product::getIsPublished)
+                .orElse(null);
+        long units = product != null ? orderItemRepository.countUnitsSold(product.getId()) : 0;
+        Entry replacement = product != null ? entry(product, units) : null;
+        synchronized (this) {
+            dictionary = dictionary.replace(event.productId(), replacement);
+        }
+    }
+
+    /**
+     * Products whose name or slug has a word starting with the typed text, most popular first.
+     *
+     * @param query Typed text; diacritics and case are ignored
+     * @param limit Maximum number of suggestions
+     * @return Up to {@code limit} suggestions
+     */
+    public List<ProductSuggestionDto> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Dictionary dict = dictionary;
+        Entry[] top = new Entry[limit];
+        int count = 0;
+        for (int i = lowerBound(dict.keys, prefix); i < dict.keys.length && dict.keys[i].startsWith(prefix); i++) {
+            count = offer(top, count, dict.owners[i]);
+        }
+
+        List<ProductSuggestionDto> suggestions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            suggestions.add(ProductSuggestionDto.builder().name(top[i].name).slug(top[i].slug).build());
+        }
+        return suggestions;
+    }
+
+    /**
+     * Insert the entry into the ranked buffer unless it is already there or ranks below a full buffer.
+     *
+     * @return The new number of entries in the buffer
+     */
+    private static int offer(Entry[] top, int count, Entry candidate) {
+        for (int i = 0; i < count; i++) {
+            if (top[i] == candidate) {
+                return count;
+            }
+        }
+        if (count == top.length && RANKING.compare(candidate, top[count - 1]) >= 0) {
+            return count;
+        }
+        int position = Math.min(count, top.length - 1);
+        while (position > 0 && RANKING.compare(candidate, top[position - 1]) < 0) {
+            top[position] = top[position - 1];
+            position--;
+        }
+        top[position] = candidate;
+        return Math.min(count + 1, top.length);
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Entry entry(Product product, long popularity) {
+        Set<String> keys = new LinkedHashSet<>();
+        addWordStarts(keys, product.getName());
+        addWordStarts(keys, product.getSlug());
+        return new Entry(product.getId(), product.getName(), product.getSlug(), popularity, keys.toArray(String[]::new));
+    }
+
+    private static void addWordStarts(Set<String> keys, String text) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        for (int i = 0; i < tokens.size(); i++) {
+            keys.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+    }
+
+    private static String normalize(String query) {
+        return String.join(" ", TextNormalizer.tokenize(query));
+    }
+
+    private record Entry(long id, String name, String slug, long popularity, String[] keys) {
+    }
+
+    /**
+     * Sorted keys and, at the same index, the entry each key belongs to.
+     */
+    private record Dictionary(String[] keys, Entry[] owners) {
+
+        /**
+         * Copy without the product's keys and with the replacement's keys merged in at their sorted positions.
+         *
+         * @param productId Product whose keys are dropped
+         * @param replacement New entry of the product, or null to only remove it
+         */
+        Dictionary replace(long productId, Entry replacement) {
+            String[] added = replacement != null ? replacement.keys.clone() : new String[0];
+            Arrays.sort(added);
+            int removed = 0;
+            for (Entry owner : owners) {
+                if (owner.id == productId) {
+                    removed++;
+                }
+            }
+
+            int size = keys.length - removed + added.length;
+            String[] nextKeys = new String[size];
+            Entry[] nextOwners = new Entry[size];
+            int next = 0;
+            int a = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (owners[i].id == productId) {
+                    continue;
+                }
+                while (a < added.length && added[a].compareTo(keys[i]) < 0) {
+                    nextKeys[next] = added[a++];
+                    nextOwners[next++] = replacement;
+                }
+                nextKeys[next] = keys[i];
+                nextOwners[next++] = owners[i];
+            }
+            while (a < added.length) {
+                nextKeys[next] = added[a++];
+                nextOwners[next++] = replacement;
+            }
+            return new Dictionary(nextKeys, nextOwners);
+        }
+    }
+}
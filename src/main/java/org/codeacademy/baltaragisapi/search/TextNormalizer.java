@@ -0,0 +1,49 @@
+package org.codeacademy.baltaragisapi.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes text for search: lower-cases, folds diacritics (ą→a, č→c, ė→e, š→s, ū→u, ž→z, ...)
+ * and splits into alphanumeric tokens, so that "Pridėti į krepšelį" and "pridet" meet on the same terms.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {}
+
+    /**
+     * Lower-case and strip diacritics, keeping everything else as-is.
+     *
+     * @param text The text to fold, may be null
+     * @return The folded text, or an empty string for null input
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fold the text and split it into tokens.
+     *
+     * @param text The text to tokenize, may be null
+     * @return Folded tokens in order of appearance
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_ALPHANUMERIC.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
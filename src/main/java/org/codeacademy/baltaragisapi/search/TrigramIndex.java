@@ -0,0 +1,310 @@
+package org.codeacademy.baltaragisapi.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.config.SearchProperties;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Trigram index over the vocabulary of published product names and short descriptions, used to
+ * correct misspelled search words ("linen", "lino" → "linas").
+ * <p>
+ * Each folded word is split into trigrams of {@code "  word "}; a trigram is packed into a
+ * {@code long} and maps to a sorted {@code int[]} of word ordinals, so the whole index is a few
+ * primitive arrays. A query word is scored against every word sharing a trigram with it by Dice
+ * similarity, {@code 2·|A∩B| / (|A|+|B|)}, and replaced by the best word at or above
+ * {@code app.search.fuzzy-threshold}. Like the other indexes it is swapped, not mutated, on change;
+ * a change only adjusts the frequencies of the product's words, and merges the words that appear or
+ * disappear into a copy of the arrays in one linear pass instead of rebuilding the index.
+ */
+@Slf4j
+@Component
+public class TrigramIndex {
+
+    private static final int MIN_WORD_LENGTH = 3;
+
+    private final ProductRepository productRepository;
+    private final SearchProperties searchProperties;
+
+    // Words contributed by each product; guarded by this
+    private final Map<Long, Set<String>> wordsByProduct = new HashMap<>();
+    private volatile Vocabulary vocabulary = Vocabulary.EMPTY;
+
+    public TrigramIndex(ProductRepository productRepository, SearchProperties searchProperties) {
+        this.productRepository = productRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        wordsByProduct.clear();
+        TreeMap<String, Integer> frequencies = new TreeMap<>();
+        for (Product product : productRepository.findByIsPublishedTrue()) {
+            Set<String> words = words(product);
+            wordsByProduct.put(product.getId(), words);
+            words.forEach(word -> frequencies.merge(word, 1, Integer::sum));
+        }
+        vocabulary = Vocabulary.EMPTY.apply(frequencies);
+        log.info("Trigram index built with {} words and {} trigrams",
+                vocabulary.words.length, vocabulary.trigrams.length);
+    }
+
+    // Runs before the catalog snapshot is swapped, so a new catalog epoch never serves old corrections
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Product product = productRepository.findById(event.productId())
+                .filter(Product::getIsPublished)
+                .orElse(null);
+        Set<String> words = product != null ? words(product) : Set.of();
+        synchronized (this) {
+            Set<String> previous = product != null
+                    ? wordsByProduct.put(event.productId(), words)
+                    : wordsByProduct.remove(event.productId());
+            TreeMap<String, Integer> deltas = new TreeMap<>();
+            if (previous != null) {
+                previous.stream().filter(word -> !words.contains(word)).forEach(word -> deltas.put(word, -1));
+            }
+            words.stream().filter(word -> previous == null || !previous.contains(word)).forEach(word -> deltas.put(word, 1));
+            // Stock and price changes leave the words alone and need no new vocabulary
+            if (!deltas.isEmpty()) {
+                vocabulary = vocabulary.apply(deltas);
+            }
+        }
+    }
+
+    /**
+     * Rewrite a query with every unknown word replaced by its closest known word.
+     *
+     * @param query Free-text query
+     * @return The corrected query, or null when no word could be corrected
+     */
+    public String correct(String query) {
+        Vocabulary vocab = vocabulary;
+        List<String> tokens = TextNormalizer.tokenize(query);
+        boolean corrected = false;
+        List<String> result = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            String replacement = token;
+            if (token.length() >= MIN_WORD_LENGTH && Arrays.binarySearch(vocab.words, token) < 0) {
+                String closest = vocab.closest(token, searchProperties.getFuzzyThreshold());
+                if (closest != null) {
+                    replacement = closest;
+                    corrected = true;
+                }
+            }
+            result.add(replacement);
+        }
+        return corrected ? String.join(" ", result) : null;
+    }
+
+    private static Set<String> words(Product product) {
+        Set<String> words = new HashSet<>();
+        for (String text : new String[] {product.getName(), product.getShortDesc()}) {
+            for (String token : TextNormalizer.tokenize(text)) {
+                if (token.length() >= MIN_WORD_LENGTH) {
+                    words.add(token);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Distinct trigrams of a word, packed three chars to a long and sorted.
+     */
+    static long[] trigramsOf(String word) {
+        String padded = "  " + word + " ";
+        long[] grams = new long[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Immutable vocabulary: sorted words with their frequency and trigram count, plus sorted trigram
+     * keys and, at the same index, the ascending ordinals of the words containing that trigram.
+     */
+    private record Vocabulary(String[] words, int[] frequencies, int[] trigramCounts, long[] trigrams, int[][] postings) {
+
+        static final Vocabulary EMPTY = new Vocabulary(new String[0], new int[0], new int[0], new long[0], new int[0][]);
+
+        /**
+         * Copy with word frequencies changed by the given deltas: words falling to zero are dropped and
+         * unknown words added. Kept words keep their relative order, so their ordinals shift
+         * monotonically and every posting list stays sorted when remapped; only the trigrams of the
+         * added words are grouped and merged in.
+         *
+         * @param deltas Frequency change per word, in word order
+         */
+        Vocabulary apply(SortedMap<String, Integer> deltas) {
+            int capacity = words.length + deltas.size();
+            String[] nextWords = new String[capacity];
+            int[] nextFrequencies = new int[capacity];
+            int[] nextCounts = new int[capacity];
+            int[] oldToNew = new int[words.length];
+            int[] added = new int[deltas.size()];
+            int addedCount = 0;
+            int size = 0;
+            boolean structural = false;
+
+            Iterator<Map.Entry<String, Integer>> changes = deltas.entrySet().iterator();
+            Map.Entry<String, Integer> change = changes.hasNext() ? changes.next() : null;
+            int i = 0;
+            while (i < words.length || change != null) {
+                int cmp = change == null ? -1 : i == words.length ? 1 : words[i].compareTo(change.getKey());
+                if (cmp <= 0) {
+                    int frequency = frequencies[i] + (cmp == 0 ? change.getValue() : 0);
+                    if (frequency > 0) {
+                        oldToNew[i] = size;
+                        nextWords[size] = words[i];
+                        nextFrequencies[size] = frequency;
+                        nextCounts[size++] = trigramCounts[i];
+                    } else {
+                        oldToNew[i] = -1;
+                        structural = true;
+                    }
+                    i++;
+                } else if (change.getValue() > 0) {
+                    added[addedCount++] = size;
+                    nextWords[size] = change.getKey();
+                    nextFrequencies[size] = change.getValue();
+                    nextCounts[size++] = trigramsOf(change.getKey()).length;
+                    structural = true;
+                }
+                if (cmp >= 0) {
+                    change = changes.hasNext() ? changes.next() : null;
+                }
+            }
+
+            if (!structural) {
+                return new Vocabulary(words, Arrays.copyOf(nextFrequencies, size), trigramCounts, trigrams, postings);
+            }
+
+            // Postings of the added words, grouped by trigram; ordinals arrive in ascending order
+            TreeMap<Long, List<Integer>> addedPostings = new TreeMap<>();
+            for (int a = 0; a < addedCount; a++) {
+                for (long gram : trigramsOf(nextWords[added[a]])) {
+                    addedPostings.computeIfAbsent(gram, g -> new ArrayList<>()).add(added[a]);
+                }
+            }
+
+            long[] nextTrigrams = new long[trigrams.length + addedPostings.size()];
+            int[][] nextPostings = new int[nextTrigrams.length][];
+            int slots = 0;
+            Iterator<Map.Entry<Long, List<Integer>>> additions = addedPostings.entrySet().iterator();
+            Map.Entry<Long, List<Integer>> addition = additions.hasNext() ? additions.next() : null;
+            int t = 0;
+            while (t < trigrams.length || addition != null) {
+                int cmp = addition == null ? -1 : t == trigrams.length ? 1 : Long.compare(trigrams[t], addition.getKey());
+                long gram = cmp <= 0 ? trigrams[t] : addition.getKey();
+                int[] list = remap(cmp <= 0 ? postings[t] : new int[0], oldToNew, cmp >= 0 ? addition.getValue() : List.of());
+                if (cmp <= 0) {
+                    t++;
+                }
+                if (cmp >= 0) {
+                    addition = additions.hasNext() ? additions.next() : null;
+                }
+                if (list.length > 0) {
+                    nextTrigrams[slots] = gram;
+                    nextPostings[slots++] = list;
+                }
+            }
+            return new Vocabulary(Arrays.copyOf(nextWords, size), Arrays.copyOf(nextFrequencies, size),
+                    Arrays.copyOf(nextCounts, size), Arrays.copyOf(nextTrigrams, slots), Arrays.copyOf(nextPostings, slots));
+        }
+
+        /**
+         * Map a sorted posting list to new ordinals, dropping removed words and merging in added ones.
+         */
+        private static int[] remap(int[] ordinals, int[] oldToNew, List<Integer> added) {
+            int[] result = new int[ordinals.length + added.size()];
+            int size = 0;
+            int a = 0;
+            for (int ordinal : ordinals) {
+                int mapped = oldToNew[ordinal];
+                if (mapped < 0) {
+                    continue;
+                }
+                while (a < added.size() && added.get(a) < mapped) {
+                    result[size++] = added.get(a++);
+                }
+                result[size++] = mapped;
+            }
+            while (a < added.size()) {
+                result[size++] = added.get(a++);
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
+        }
+
+        /**
+         * Most similar known word, preferring more frequent words on ties. Only words sharing a trigram
+         * with the token are visited: their posting lists are concatenated and sorted, and each run of
+         * one ordinal is the number of trigrams it shares.
+         */
+        String closest(String token, double threshold) {
+            long[] grams = trigramsOf(token);
+            int[] matchedSlots = new int[grams.length];
+            int matched = 0;
+            int hitCount = 0;
+            for (long gram : grams) {
+                int slot = Arrays.binarySearch(trigrams, gram);
+                if (slot >= 0) {
+                    matchedSlots[matched++] = slot;
+                    hitCount += postings[slot].length;
+                }
+            }
+            int[] hits = new int[hitCount];
+            int filled = 0;
+            for (int m = 0; m < matched; m++) {
+                int[] list = postings[matchedSlots[m]];
+                System.arraycopy(list, 0, hits, filled, list.length);
+                filled += list.length;
+            }
+            Arrays.sort(hits);
+
+            int best = -1;
+            double bestScore = threshold;
+            for (int start = 0; start < hits.length; ) {
+                int ordinal = hits[start];
+                int end = start + 1;
+                while (end < hits.length && hits[end] == ordinal) {
+                    end++;
+                }
+                double score = 2.0 * (end - start) / (grams.length + trigramCounts[ordinal]);
+                if (score > bestScore || (score == bestScore && (best < 0 || frequencies[ordinal] > frequencies[best]))) {
+                    best = ordinal;
+                    bestScore = score;
+                }
+                start = end;
+            }
+            return best >= 0 ? words[best] : null;
+        }
+    }
+}
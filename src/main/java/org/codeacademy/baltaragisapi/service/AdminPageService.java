@@ -3,9 +3,11 @@ package org.codeacademy.baltaragisapi.service;
 import org.codeacademy.baltaragisapi.dto.admin.CreatePageRequest;
 import org.codeacademy.baltaragisapi.dto.admin.UpdatePageRequest;
 import org.codeacademy.baltaragisapi.entity.Page;
+import org.codeacademy.baltaragisapi.event.PageChangedEvent;
 import org.codeacademy.baltaragisapi.exception.ConflictException;
 import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.repository.PageRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,9 +19,11 @@ import java.util.List;
 public class AdminPageService {
 
     private final PageRepository pageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdminPageService(PageRepository pageRepository) {
+    public AdminPageService(PageRepository pageRepository, ApplicationEventPublisher eventPublisher) {
         this.pageRepository = pageRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Page> getAllPages() {
@@ -47,7 +51,9 @@ public class AdminPageService {
         page.setCreatedAt(now);
         page.setUpdatedAt(now);
 
-        return pageRepository.save(page);
+        Page savedPage = pageRepository.save(page);
+        eventPublisher.publishEvent(new PageChangedEvent(savedPage.getId()));
+        return savedPage;
     }
 
     public Page updatePage(Long id, UpdatePageRequest request) {
@@ -64,11 +70,14 @@ public class AdminPageService {
         }
         
         page.setUpdatedAt(OffsetDateTime.now());
-        return pageRepository.save(page);
+        Page updatedPage = pageRepository.save(page);
+        eventPublisher.publishEvent(new PageChangedEvent(updatedPage.getId()));
+        return updatedPage;
     }
 
     public void deletePage(Long id) {
         Page page = getPageById(id);
         pageRepository.delete(page);
+        eventPublisher.publishEvent(new PageChangedEvent(id));
     }
 }
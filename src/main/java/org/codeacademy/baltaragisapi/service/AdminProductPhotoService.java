@@ -4,12 +4,15 @@ import org.codeacademy.baltaragisapi.dto.admin.CreateProductPhotoRequest;
 import org.codeacademy.baltaragisapi.dto.admin.UpdateProductPhotoRequest;
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.entity.ProductPhoto;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
 import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.repository.ProductPhotoRepository;
 import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Service
@@ -18,10 +21,13 @@ public class AdminProductPhotoService {
 
     private final ProductPhotoRepository photoRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdminProductPhotoService(ProductPhotoRepository photoRepository, ProductRepository productRepository) {
+    public AdminProductPhotoService(ProductPhotoRepository photoRepository, ProductRepository productRepository,
+                                    ApplicationEventPublisher eventPublisher) {
         this.photoRepository = photoRepository;
         this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<ProductPhoto> getAllPhotos() {
@@ -49,8 +55,11 @@ public class AdminProductPhotoService {
         photo.setSortOrder(request.getSortOrder() != null ? request.getSortOrder() : 0);
         photo.setWidth(request.getWidth());
         photo.setHeight(request.getHeight());
+        touch(product);
 
-        return photoRepository.save(photo);
+        ProductPhoto savedPhoto = photoRepository.save(photo);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+        return savedPhoto;
     }
 
     public ProductPhoto updatePhoto(Long id, UpdateProductPhotoRequest request) {
@@ -71,12 +80,24 @@ public class AdminProductPhotoService {
         if (request.getHeight() != null) {
             photo.setHeight(request.getHeight());
         }
+        touch(photo.getProduct());
 
-        return photoRepository.save(photo);
+        ProductPhoto updatedPhoto = photoRepository.save(photo);
+        eventPublisher.publishEvent(new ProductChangedEvent(photo.getProduct().getId()));
+        return updatedPhoto;
     }
 
     public void deletePhoto(Long id) {
         ProductPhoto photo = getPhotoById(id);
+        touch(photo.getProduct());
         photoRepository.delete(photo);
+        eventPublisher.publishEvent(new ProductChangedEvent(photo.getProduct().getId()));
+    }
+
+    /**
+     * Photos are part of the product detail, so a photo change bumps the product's version and timestamp.
+     */
+    private void touch(Product product) {
+        product.setUpdatedAt(OffsetDateTime.now());
     }
 }
@@ -3,9 +3,11 @@ package org.codeacademy.baltaragisapi.service;
 import org.codeacademy.baltaragisapi.dto.admin.CreateProductRequest;
 import org.codeacademy.baltaragisapi.dto.admin.UpdateProductRequest;
 import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
 import org.codeacademy.baltaragisapi.exception.ConflictException;
 import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +20,13 @@ public class AdminProductService {
 
     private final ProductRepository productRepository;
     private final WaitlistNotificationService waitlistNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AdminProductService(ProductRepository productRepository, WaitlistNotificationService waitlistNotificationService) {
+    public AdminProductService(ProductRepository productRepository, WaitlistNotificationService waitlistNotificationService,
+                               ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.waitlistNotificationService = waitlistNotificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Product> getAllProducts() {
@@ -54,6 +59,7 @@ public class AdminProductService {
         product.setUpdatedAt(now);
 
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getId()));
         
         // Check if we should send waitlist notifications for newly created products
         if (savedProduct.getIsPublished() && savedProduct.getQuantity() > 0) {
@@ -94,6 +100,7 @@ public class AdminProductService {
         
         product.setUpdatedAt(OffsetDateTime.now());
         Product updatedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(updatedProduct.getId()));
         
         // Check if we should send waitlist notifications
         waitlistNotificationService.checkAndSendWaitlistNotifications(updatedProduct, previousQuantity, previousIsPublished);
@@ -104,5 +111,6 @@ public class AdminProductService {
     public void deleteProduct(Long id) {
         Product product = getProductById(id);
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
     }
 }
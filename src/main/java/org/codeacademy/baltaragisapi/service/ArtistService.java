@@ -3,8 +3,11 @@ package org.codeacademy.baltaragisapi.service;
 import org.codeacademy.baltaragisapi.dto.ArtistDto;
 import org.codeacademy.baltaragisapi.mapper.ArtistMapper;
 import org.codeacademy.baltaragisapi.repository.ArtistProfileRepository;
+import org.codeacademy.baltaragisapi.repository.EntityVersion;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class ArtistService {
 
@@ -21,6 +24,10 @@ public class ArtistService {
                 .map(artistMapper::toDto)
                 .orElse(null);
     }
+
+    public Optional<EntityVersion> getProfileVersion() {
+        return artistProfileRepository.fetchSingleProfileVersion();
+    }
 }
 
 
@@ -1,16 +1,51 @@
 package org.codeacademy.baltaragisapi.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.codeacademy.baltaragisapi.catalog.CatalogSnapshot;
+import org.codeacademy.baltaragisapi.catalog.CatalogSnapshotHolder;
+import org.codeacademy.baltaragisapi.catalog.ProductDetailCache;
+import org.codeacademy.baltaragisapi.catalog.ProductSlugFilter;
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.config.SearchProperties;
+import org.codeacademy.baltaragisapi.dto.CursorPageDto;
 import org.codeacademy.baltaragisapi.dto.ProductCardDto;
 import org.codeacademy.baltaragisapi.dto.ProductDetailDto;
+import org.codeacademy.baltaragisapi.dto.ProductFacetsDto;
+import org.codeacademy.baltaragisapi.dto.ProductSuggestionDto;
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.exception.NotFoundException;
+import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.mapper.ProductMapper;
+import org.codeacademy.baltaragisapi.repository.EntityVersion;
+import org.codeacademy.baltaragisapi.repository.ProductCardRow;
+import org.codeacademy.baltaragisapi.repository.ProductCursor;
 import org.codeacademy.baltaragisapi.repository.ProductPhotoRepository;
 import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.repository.ProductSort;
+import org.codeacademy.baltaragisapi.repository.ProductThumbnail;
+import org.codeacademy.baltaragisapi.search.FullTextSupport;
+import org.codeacademy.baltaragisapi.search.ProductSearchIndex;
+import org.codeacademy.baltaragisapi.search.ProductSuggester;
+import org.codeacademy.baltaragisapi.search.TrigramIndex;
+import org.codeacademy.baltaragisapi.spec.PriceBand;
+import org.codeacademy.baltaragisapi.spec.ProductFilter;
 import org.codeacademy.baltaragisapi.spec.ProductSpecifications;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -19,36 +54,371 @@ import org.codeacademy.baltaragisapi.entity.ProductPhoto;
 @Service
 public class CatalogService {
 
+    public static final int MAX_SUGGESTIONS = 20;
+    public static final int MAX_BATCH_SLUGS = 50;
+
     private final ProductRepository productRepository;
     private final ProductPhotoRepository photoRepository;
     private final ProductMapper productMapper;
+    private final ProductSearchIndex searchIndex;
+    private final FullTextSupport fullTextSupport;
+    private final SearchProperties searchProperties;
+    private final CatalogProperties catalogProperties;
+    private final CatalogSnapshotHolder catalogSnapshots;
+    private final ProductDetailCache detailCache;
+    private final ProductSuggester suggester;
+    private final TrigramIndex trigramIndex;
+    private final ProductSlugFilter slugFilter;
 
-    public CatalogService(ProductRepository productRepository, ProductPhotoRepository photoRepository, ProductMapper productMapper) {
+    public CatalogService(ProductRepository productRepository, ProductPhotoRepository photoRepository, ProductMapper productMapper,
+                          ProductSearchIndex searchIndex, FullTextSupport fullTextSupport, SearchProperties searchProperties,
+                          CatalogProperties catalogProperties, CatalogSnapshotHolder catalogSnapshots, ProductDetailCache detailCache,
+                          ProductSuggester suggester, TrigramIndex trigramIndex, ProductSlugFilter slugFilter) {
         this.productRepository = productRepository;
         this.photoRepository = photoRepository;
         this.productMapper = productMapper;
+        this.searchIndex = searchIndex;
+        this.fullTextSupport = fullTextSupport;
+        this.searchProperties = searchProperties;
+        this.catalogProperties = catalogProperties;
+        this.catalogSnapshots = catalogSnapshots;
+        this.detailCache = detailCache;
+        this.suggester = suggester;
+        this.trigramIndex = trigramIndex;
+        this.slugFilter = slugFilter;
+    }
+
+    /**
+     * Version of every listing and search result, known without touching the database. The epoch only
+     * moves on changes committed through this node, so it is withheld unless {@code app.catalog.single-node}
+     * is set; with several nodes another node's change would go unseen.
+     *
+     * @return Catalog epoch, or null while the catalog snapshot is not built yet or on several nodes
+     */
+    public String getCatalogEpoch() {
+        if (!catalogProperties.isSingleNode()) {
+            return null;
+        }
+        return catalogSnapshots.epoch();
+    }
+
+    /**
+     * List published products a page at a time. The default id order is served from the catalog
+     * snapshot; explicit sorts are range scans over the matching {@code (is_published, key, id)} index.
+     *
+     * @param query Optional search text
+     * @param filter Storefront filters
+     * @param pageable Page to fetch, sorted by {@link ProductSort#toSort()} or unsorted
+     * @return Page of product cards
+     */
+    public Page<ProductCardDto> listPublished(String query, ProductFilter filter, Pageable pageable) {
+        List<ProductCardDto> cards = snapshotCards(query, filter);
+        if (cards != null && pageable.getSort().isUnsorted()) {
+            int from = (int) Math.min(pageable.getOffset(), cards.size());
+            int to = Math.min(from + pageable.getPageSize(), cards.size());
+            return new PageImpl<>(cards.subList(from, to), pageable, cards.size());
+        }
+        if (isSearch(query) && useSearchIndex() && pageable.getSort().isUnsorted()) {
+            return searchPublished(query, filter, pageable);
+        }
+        Specification<Product> spec = publishedSpec(query, filter);
+        Page<ProductCardRow> rows = productRepository.findCards(spec, pageable);
+        Map<Long, String> thumbnails = resolveThumbnails(rows.getContent());
+        return rows.map(row -> productMapper.toCard(row, thumbnails.get(row.id())));
+    }
+
+    /**
+     * Rank matches with the in-memory search index, then load only the cards on the requested page.
+     */
+    private Page<ProductCardDto> searchPublished(String query, ProductFilter filter, Pageable pageable) {
+        List<Long> ranked = searchIndex.search(query);
+        if (!filter.isEmpty() && !ranked.isEmpty()) {
+            Set<Long> matching = productRepository
+                    .findCards(publishedSpec(query, filter), Pageable.unpaged())
+                    .stream()
+                    .map(ProductCardRow::id)
+                    .collect(Collectors.toSet());
+            ranked = ranked.stream().filter(matching::contains).toList();
+        }
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+
+        Map<Long, ProductCardRow> rowsById = productRepository
+                .findCards(ProductSpecifications.isPublished().and(ProductSpecifications.byIds(pageIds)), Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(ProductCardRow::id, Function.identity()));
+        List<ProductCardRow> rows = pageIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, String> thumbnails = resolveThumbnails(rows);
+        List<ProductCardDto> content = rows.stream()
+                .map(row -> productMapper.toCard(row, thumbnails.get(row.id())))
+                .toList();
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    /**
+     * List published products by keyset: seeks past the cursor instead of counting and skipping rows,
+     * so every slice costs the same however deep the client scrolls. Search hits are returned in id
+     * order unless a sort is given, since relevance scores are not a stable key to seek on.
+     *
+     * @param query Optional search text
+     * @param filter Storefront filters
+     * @param sort Listing order, or null for ascending id
+     * @param after Opaque cursor from a previous slice, or blank for the first slice
+     * @param size Slice size
+     * @return Slice of product cards with the cursor for the next one
+     */
+    public CursorPageDto<ProductCardDto> listPublishedAfter(String query, ProductFilter filter, ProductSort sort,
+                                                            String after, int size) {
+        if (size < 1) {
+            throw new ValidationException("Invalid page size", Map.of("size", "Size must be at least 1"));
+        }
+        ProductCursor cursor = after == null || after.isBlank() ? null : ProductCursor.decode(after);
+        if (cursor != null && cursor.sort() != sort) {
+            throw new ValidationException("Invalid cursor", Map.of("after", "Cursor belongs to a different sort order"));
+        }
+
+        // Fetch one extra card to learn whether another slice follows
+        List<ProductCardDto> content;
+        String nextCursor = null;
+        List<ProductCardDto> cards = sort == null ? snapshotCards(query, filter) : null;
+        if (cards != null) {
+            long lastId = cursor != null ? cursor.lastId() : Long.MIN_VALUE;
+            content = cards.stream()
+                    .filter(card -> card.getId() > lastId)
+                    .sorted(Comparator.comparing(ProductCardDto::getId))
+                    .limit(size + 1L)
+                    .toList();
+            if (content.size() > size) {
+                nextCursor = new ProductCursor(content.get(size - 1).getId()).encode();
+            }
+        } else {
+            List<ProductCardRow> rows = productRepository.findCardsAfter(publishedSpec(query, filter), sort, cursor, size + 1);
+            if (rows.size() > size) {
+                rows = rows.subList(0, size);
+                nextCursor = ProductCursor.after(sort, rows.get(size - 1)).encode();
+            }
+            Map<Long, String> thumbnails = resolveThumbnails(rows);
+            content = rows.stream()
+                    .map(row -> productMapper.toCard(row, thumbnails.get(row.id())))
+                    .toList();
+        }
+        boolean hasNext = nextCursor != null;
+        if (content.size() > size) {
+            content = content.subList(0, size);
+        }
+
+        return CursorPageDto.<ProductCardDto>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Correct misspelled words of a search against the catalog vocabulary, for a "did you mean"
+     * retry when the query as typed finds nothing.
+     *
+     * @param query Search text
+     * @return The corrected query, or null when there is nothing to correct
+     */
+    public String correctQuery(String query) {
+        return isSearch(query) ? trigramIndex.correct(query) : null;
+    }
+
+    /**
+     * Autocomplete published products from the in-memory suggestion dictionary; never queries the database.
+     *
+     * @param query Typed text
+     * @param limit Maximum number of suggestions, 1 to {@value #MAX_SUGGESTIONS}
+     * @return Suggestions, most popular first
+     */
+    public List<ProductSuggestionDto> suggest(String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new ValidationException("Invalid limit",
+                    Map.of("limit", "Limit must be between 1 and " + MAX_SUGGESTIONS));
+        }
+        return suggester.suggest(query, limit);
+    }
+
+    /**
+     * Count facet values for the listing in a single pass. Each facet is counted with every other active
+     * filter applied but not its own, so picking a price band still shows how many products the other
+     * bands would give. The matching products are first reduced to counts per (price band, stock, currency)
+     * cell: from the catalog snapshot in memory, otherwise with one grouped aggregate query.
+     *
+     * @param query Optional search text
+     * @param filter Active storefront filters
+     * @return Facet counts
+     */
+    public ProductFacetsDto getFacets(String query, ProductFilter filter) {
+        List<ProductCardDto> cards = snapshotCards(query, ProductFilter.NONE);
+        List<FacetCell> cells = cards != null
+                ? cards.stream()
+                        .map(card -> new FacetCell(PriceBand.of(card.getPriceCents()), card.isInStock(), card.getCurrency(), 1))
+                        .toList()
+                : countFacetCells(publishedSpec(query, ProductFilter.NONE));
+
+        Map<String, Long> priceBands = new LinkedHashMap<>();
+        for (PriceBand band : PriceBand.values()) {
+            priceBands.put(band.getLabel(), 0L);
+        }
+        Map<String, Long> availability = new LinkedHashMap<>();
+        availability.put("inStock", 0L);
+        availability.put("outOfStock", 0L);
+        Map<String, Long> currencies = new TreeMap<>();
+        long total = 0;
+
+        for (FacetCell cell : cells) {
+            boolean price = filter.matchesPrice(cell.band());
+            boolean stock = filter.matchesStock(cell.inStock());
+            boolean currency = filter.matchesCurrency(cell.currency());
+            if (price && stock && currency) {
+                total += cell.count();
+            }
+            if (stock && currency && cell.band() != null) {
+                priceBands.merge(cell.band().getLabel(), cell.count(), Long::sum);
+            }
+            if (price && currency) {
+                availability.merge(cell.inStock() ? "inStock" : "outOfStock", cell.count(), Long::sum);
+            }
+            if (price && stock && cell.currency() != null) {
+                currencies.merge(cell.currency(), cell.count(), Long::sum);
+            }
+        }
+
+        return ProductFacetsDto.builder()
+                .total(total)
+                .priceBands(priceBands)
+                .availability(availability)
+                .currencies(currencies)
+                .build();
+    }
+
+    /**
+     * Counts per (price band, stock, currency) cell with one aggregate query; prices below every band
+     * fall in the cells with a null band.
+     */
+    private List<FacetCell> countFacetCells(Specification<Product> spec) {
+        List<PriceBand> bands = new ArrayList<>(Arrays.asList(PriceBand.values()));
+        bands.add(null);
+        List<Specification<Product>> buckets = new ArrayList<>();
+        for (PriceBand band : bands) {
+            Specification<Product> price = band != null
+                    ? ProductSpecifications.byPriceRange(band.getMinCents(), band.getMaxCents())
+                    : (root, q, cb) -> cb.lessThan(root.get("priceCents"), PriceBand.values()[0].getMinCents());
+            buckets.add(price.and(ProductSpecifications.byInStock(true)));
+            buckets.add(price.and(ProductSpecifications.byInStock(false)));
+        }
+
+        List<FacetCell> cells = new ArrayList<>();
+        productRepository.countByCurrency(spec, buckets).forEach((currency, counts) -> {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    cells.add(new FacetCell(bands.get(i / 2), i % 2 == 0, currency, counts[i]));
+                }
+            }
+        });
+        return cells;
+    }
+
+    private record FacetCell(PriceBand band, boolean inStock, String currency, long count) {
+    }
+
+    /**
+     * Cards matching the query and filter straight from the catalog snapshot, in listing order (id, or
+     * relevance when searching). Returns null when the snapshot cannot answer, i.e. before it is built,
+     * when search is delegated to the database, or on several nodes, where it would miss other nodes' changes.
+     */
+    private List<ProductCardDto> snapshotCards(String query, ProductFilter filter) {
+        CatalogSnapshot snapshot = catalogProperties.isSingleNode() ? catalogSnapshots.current() : null;
+        if (snapshot == null) {
+            return null;
+        }
+        List<ProductCardDto> cards;
+        if (!isSearch(query)) {
+            cards = snapshot.cards();
+        } else if (useSearchIndex()) {
+            cards = snapshot.cards(searchIndex.search(query));
+        } else {
+            return null;
+        }
+        return filter.isEmpty() ? cards : cards.stream().filter(filter::matches).toList();
+    }
+
+    private Specification<Product> publishedSpec(String query, ProductFilter filter) {
+        Specification<Product> spec;
+        if (isSearch(query) && useSearchIndex()) {
+            spec = ProductSpecifications.isPublished().and(ProductSpecifications.byIds(searchIndex.search(query)));
+        } else {
+            spec = Specification.where(ProductSpecifications.isPublished())
+                    .and(ProductSpecifications.byText(query, useFullText()));
+        }
+        return filter.isEmpty() ? spec : spec.and(filter.toSpecification());
+    }
+
+    private boolean useSearchIndex() {
+        return searchProperties.getEngine() == SearchProperties.Engine.MEMORY && searchIndex.isReady();
+    }
+
+    private boolean useFullText() {
+        return searchProperties.getEngine() == SearchProperties.Engine.DATABASE && fullTextSupport.isAvailable();
     }
 
-    public Page<ProductCardDto> listPublished(String query, Pageable pageable) {
-        Specification<Product> spec = Specification.where(ProductSpecifications.isPublished())
-                .and(ProductSpecifications.byQuery(query));
-        return productRepository.findAll(spec, pageable)
-                .map(product -> {
-                    ProductCardDto dto = productMapper.toCard(product);
-                    var thumb = photoRepository.findFirstByProductIdOrderBySortOrderAscIdAsc(product.getId());
-                    return ProductCardDto.builder()
-                            .id(dto.getId())
-                            .name(dto.getName())
-                            .slug(dto.getSlug())
-                            .price(dto.getPrice())
-                            .currency(dto.getCurrency())
-                            .thumbnailUrl(thumb != null ? thumb.getUrl() : null)
-                            .isInStock(dto.isInStock())
-                            .build();
-                });
+    private static boolean isSearch(String query) {
+        return query != null && !query.isBlank();
     }
 
+    /**
+     * Resolve the first photo URL of every product on a page with a single query.
+     */
+    private Map<Long, String> resolveThumbnails(List<ProductCardRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = rows.stream().map(ProductCardRow::id).toList();
+        return photoRepository.findThumbnailsByProductIds(ids).stream()
+                .collect(Collectors.toMap(ProductThumbnail::getProductId, ProductThumbnail::getUrl));
+    }
+
+    /**
+     * Version of a product detail, without loading it: answered from the detail cache when the detail is
+     * cached (cached entries are evicted on every change), otherwise with one indexed lookup. Slugs the
+     * slug filter has never seen are answered as missing without a query.
+     *
+     * @param slug Product slug
+     * @return Product id and version, or empty if there is no such product
+     */
+    public Optional<EntityVersion> findDetailVersion(String slug) {
+        ProductDetailDto cached = detailCache.getIfPresent(slug);
+        if (cached != null) {
+            return Optional.of(new EntityVersion(cached.getId(), cached.getVersion()));
+        }
+        if (!slugFilter.mightExist(slug)) {
+            return Optional.empty();
+        }
+        Optional<EntityVersion> version = productRepository.findVersionBySlug(slug);
+        if (version.isEmpty()) {
+            slugFilter.recordFalsePositive();
+        }
+        return version;
+    }
+
+    /**
+     * Product detail by slug, cached until the product, its photos or its stock change.
+     */
     public ProductDetailDto getBySlug(String slug) {
+        return detailCache.get(slug, () -> loadDetail(slug));
+    }
+
+    private ProductDetailDto loadDetail(String slug) {
         Product product = productRepository.findBySlug(slug)
                 .orElseThrow(() -> new NotFoundException("Product not found"));
         
@@ -59,6 +429,56 @@ public class CatalogService {
         
         return productMapper.toDetail(product, photoUrls);
     }
+
+    /**
+     * Product details for several slugs at once. Details already cached are reused; the rest are
+     * loaded with one product query and one photo query, then cached like {@link #getBySlug}.
+     *
+     * @param slugs Product slugs, at most {@value #MAX_BATCH_SLUGS}
+     * @return Details by slug in request order; unknown slugs are left out
+     */
+    public Map<String, ProductDetailDto> getBySlugs(Collection<String> slugs) {
+        Set<String> requested = new LinkedHashSet<>(slugs);
+        if (requested.size() > MAX_BATCH_SLUGS) {
+            throw new ValidationException("Too many slugs",
+                    Map.of("slugs", "At most " + MAX_BATCH_SLUGS + " slugs per request"));
+        }
+
+        Map<String, ProductDetailDto> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String slug : requested) {
+            ProductDetailDto cached = detailCache.getIfPresent(slug);
+            if (cached != null) {
+                found.put(slug, cached);
+            } else if (slugFilter.mightExist(slug)) {
+                missing.add(slug);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long generation = detailCache.generation();
+            List<Product> products = productRepository.findBySlugIn(missing);
+            Map<Long, List<String>> photoUrls = products.isEmpty() ? Map.of() : photoRepository
+                    .findAllByProductIdInOrderBySortOrderAscIdAsc(products.stream().map(Product::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(photo -> photo.getProduct().getId(),
+                            Collectors.mapping(ProductPhoto::getUrl, Collectors.toList())));
+            for (Product product : products) {
+                ProductDetailDto detail = productMapper.toDetail(product, photoUrls.getOrDefault(product.getId(), List.of()));
+                detailCache.put(detail, generation);
+                found.put(product.getSlug(), detail);
+            }
+        }
+
+        Map<String, ProductDetailDto> result = new LinkedHashMap<>();
+        for (String slug : requested) {
+            ProductDetailDto detail = found.get(slug);
+            if (detail != null) {
+                result.put(slug, detail);
+            }
+        }
+        return result;
+    }
 }
 
 
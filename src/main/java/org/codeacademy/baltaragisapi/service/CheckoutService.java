@@ -6,6 +6,7 @@ import org.codeacademy.baltaragisapi.entity.Order;
 import org.codeacademy.baltaragisapi.entity.OrderItem;
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.enums.OrderStatus;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
 import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.exception.InsufficientStockException;
@@ -13,6 +14,7 @@ import org.codeacademy.baltaragisapi.mapper.OrderMapper;
 import org.codeacademy.baltaragisapi.repository.OrderItemRepository;
 import org.codeacademy.baltaragisapi.repository.OrderRepository;
 import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,12 +28,15 @@ public class CheckoutService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CheckoutService(ProductRepository productRepository, OrderRepository orderRepository, OrderItemRepository orderItemRepository, OrderMapper orderMapper) {
+    public CheckoutService(ProductRepository productRepository, OrderRepository orderRepository, OrderItemRepository orderItemRepository, OrderMapper orderMapper,
+                           ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.orderMapper = orderMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     public CreateOrderResponse createSingleItemOrder(CreateOrderRequest req) {
@@ -74,7 +79,9 @@ public class CheckoutService {
         orderItemRepository.save(item);
 
         product.setQuantity(available - requested);
+        product.setUpdatedAt(OffsetDateTime.now());
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
 
         return orderMapper.toCreateResponse(order);
     }
@@ -0,0 +1,88 @@
+package org.codeacademy.baltaragisapi.service;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Text with positional argument slots, split once into literal segments so that rendering is
+ * plain concatenation. Instances are immutable and safe to share between threads.
+ * <p>
+ * Templates are assembled from {@link MessageFormat} patterns whose arguments are {@link #slot}
+ * markers, so quoting rules are applied once at compile time rather than on every render.
+ */
+final class CompiledTemplate {
+
+    // Private use characters: never produced by MessageFormat itself
+    private static final char SLOT_BASE = '\uE000';
+    private static final int MAX_SLOTS = 16;
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Marker standing for argument {@code index} in text passed to {@link #compile}.
+     */
+    static String slot(int index) {
+        if (index < 0 || index >= MAX_SLOTS) {
+            throw new IllegalArgumentException("Slot index out of range: " + index);
+        }
+        return String.valueOf((char) (SLOT_BASE + index));
+    }
+
+    /**
+     * Apply a {@link MessageFormat} pattern to slot markers or fixed text, producing template text.
+     */
+    static String format(String pattern, Object... arguments) {
+        return new MessageFormat(pattern, Locale.ROOT).format(arguments);
+    }
+
+    /**
+     * Split text containing {@link #slot} markers into literal segments and slots.
+     */
+    static CompiledTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SLOT_BASE && c < SLOT_BASE + MAX_SLOTS) {
+                literals.add(text.substring(start, i));
+                slots.add(c - SLOT_BASE);
+                start = i + 1;
+            }
+        }
+        literals.add(text.substring(start));
+        return new CompiledTemplate(literals.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Substitute the arguments into their slots.
+     *
+     * @param arguments Values by slot index
+     * @return The rendered text
+     */
+    String render(String... arguments) {
+        int length = literalLength;
+        for (int slot : slots) {
+            length += String.valueOf(arguments[slot]).length();
+        }
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            text.append(literals[i]).append(arguments[slots[i]]);
+        }
+        return text.append(literals[slots.length]).toString();
+    }
+}
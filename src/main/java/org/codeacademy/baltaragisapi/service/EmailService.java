@@ -6,16 +6,24 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
-import java.text.MessageFormat;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Sends plain text emails. Each locale's waitlist email is compiled once from its translations and
+ * recompiled only after they change, so a notification per recipient is a slot substitution.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
+    private static final int PRODUCT_NAME_SLOT = 0;
+    private static final int PRODUCT_SLUG_SLOT = 1;
+
     private final JavaMailSender mailSender;
     private final TranslationService translationService;
+    private final ConcurrentMap<String, WaitlistEmail> waitlistEmails = new ConcurrentHashMap<>();
 
     /**
      * Send a simple text email
@@ -52,10 +60,10 @@ public class EmailService {
      */
     public boolean sendWaitlistNotification(String to, String productName, String productSlug, String locale) {
         try {
-            String subject = getWaitlistSubject(locale);
-            String text = getWaitlistEmailText(productName, productSlug, locale);
+            WaitlistEmail email = getWaitlistEmail(locale);
+            String text = email.text().render(productName, productSlug);
             
-            return sendEmail(to, subject, text);
+            return sendEmail(to, email.subject(), text);
         } catch (Exception e) {
             log.error("Error preparing waitlist notification email for locale: {}", locale, e);
             // Fallback to default locale
@@ -63,35 +71,39 @@ public class EmailService {
         }
     }
 
-    private String getWaitlistSubject(String locale) {
-        return translationService.getTranslation("email.waitlist.subject", locale);
+    private WaitlistEmail getWaitlistEmail(String locale) {
+        long version = translationService.getTranslationsVersion(locale);
+        WaitlistEmail email = waitlistEmails.get(locale);
+        if (email != null && email.version() >= version) {
+            return email;
+        }
+        return waitlistEmails.compute(locale, (key, existing) ->
+                existing != null && existing.version() >= version ? existing : compileWaitlistEmail(key, version));
     }
 
-    private String getWaitlistEmailText(String productName, String productSlug, String locale) {
+    private WaitlistEmail compileWaitlistEmail(String locale, long version) {
         String baseUrl = "http://localhost:8080"; // In production, this would come from configuration
-        String productUrl = baseUrl + "/products/" + productSlug;
+        String productUrl = baseUrl + "/products/" + CompiledTemplate.slot(PRODUCT_SLUG_SLOT);
         
+        String subject = translationService.getTranslation("email.waitlist.subject", locale);
         String greeting = translationService.getTranslation("email.waitlist.greeting", locale);
         String productBackInStock = translationService.getTranslation("email.waitlist.product_back_in_stock", locale);
         String purchaseLink = translationService.getTranslation("email.waitlist.purchase_link", locale);
         String regards = translationService.getTranslation("email.waitlist.regards", locale);
         String team = translationService.getTranslation("email.waitlist.team", locale);
         
-        // Format the message with placeholders
-        String formattedProductBackInStock = MessageFormat.format(productBackInStock, productName);
-        String formattedPurchaseLink = MessageFormat.format(purchaseLink, productUrl);
+        // Format the message with slots in place of the per-recipient values
+        String formattedProductBackInStock = CompiledTemplate.format(productBackInStock, CompiledTemplate.slot(PRODUCT_NAME_SLOT));
+        String formattedPurchaseLink = CompiledTemplate.format(purchaseLink, productUrl);
         
-        return String.format(
-            "%s\n\n" +
-            "%s\n\n" +
-            "%s\n\n" +
-            "%s\n" +
-            "%s",
-            greeting,
-            formattedProductBackInStock,
-            formattedPurchaseLink,
-            regards,
-            team
-        );
+        String text = greeting + "\n\n" +
+            formattedProductBackInStock + "\n\n" +
+            formattedPurchaseLink + "\n\n" +
+            regards + "\n" +
+            team;
+        return new WaitlistEmail(version, subject, CompiledTemplate.compile(text));
+    }
+
+    private record WaitlistEmail(long version, String subject, CompiledTemplate text) {
     }
 }
@@ -1,22 +1,53 @@
 package org.codeacademy.baltaragisapi.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.codeacademy.baltaragisapi.config.I18nProperties;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Service for resolving the appropriate locale based on various factors.
  * Implements the locale negotiation order: explicit override > Accept-Language > IP country default.
+ * Supported locales and the fallback come from {@code app.i18n}.
+ * <p>
+ * Accept-Language is negotiated by quality weight (RFC 9110): ranges are tried from the highest
+ * q down, each matching a supported locale exactly or by primary language. A range with q=0
+ * excludes only the locale it names exactly; a bare language ({@code en;q=0}) also excludes that
+ * language's locales not named by an accepted range, and {@code *;q=0} excludes every locale no
+ * accepted range matches. The outcome per raw header value is memoized in a bounded cache, and the resolved
+ * locale is kept on the request so repeated calls within one request resolve once.
  */
 @Service
 public class LocaleResolverService {
     
-    private static final Set<String> SUPPORTED_LOCALES = Set.of("en-US", "lt-LT");
-    private static final String DEFAULT_LOCALE = "en-US";
-    private static final String LITHUANIA_COUNTRY_CODE = "LT";
+    private static final String RESOLVED_LOCALE_ATTRIBUTE = LocaleResolverService.class.getName() + ".locale";
+    
+    private final Set<String> supportedLocales;
+    private final String defaultLocale;
+    private final Cache<String, Optional<String>> acceptLanguageMemo;
+    
+    public LocaleResolverService(I18nProperties i18nProperties) {
+        this.supportedLocales = Collections.unmodifiableSet(new LinkedHashSet<>(i18nProperties.getSupportedLocales()));
+        this.defaultLocale = i18nProperties.getDefaultLocale();
+        if (!supportedLocales.contains(defaultLocale)) {
+            throw new IllegalStateException("app.i18n.default-locale " + defaultLocale + " is not in app.i18n.supported-locales");
+        }
+        this.acceptLanguageMemo = Caffeine.newBuilder()
+                .maximumSize(i18nProperties.getAcceptLanguageCacheSize())
+                .build();
+    }
     
     /**
      * Resolve the locale for the current request.
@@ -26,20 +57,28 @@ public class LocaleResolverService {
     public String resolveLocale() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes == null) {
-            return DEFAULT_LOCALE;
+            return defaultLocale;
         }
         
-        HttpServletRequest request = attributes.getRequest();
-        
+        Object resolved = attributes.getAttribute(RESOLVED_LOCALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved != null) {
+            return (String) resolved;
+        }
+        String locale = resolveLocale(attributes.getRequest());
+        attributes.setAttribute(RESOLVED_LOCALE_ATTRIBUTE, locale, RequestAttributes.SCOPE_REQUEST);
+        return locale;
+    }
+    
+    private String resolveLocale(HttpServletRequest request) {
         // 1. Check for explicit override (X-Locale header or query parameter)
         String explicitLocale = getExplicitLocale(request);
-        if (explicitLocale != null && isValidLocale(explicitLocale)) {
+        if (explicitLocale != null && isSupportedLocale(explicitLocale)) {
             return explicitLocale;
         }
         
         // 2. Check Accept-Language header
         String acceptLanguageLocale = getAcceptLanguageLocale(request);
-        if (acceptLanguageLocale != null && isValidLocale(acceptLanguageLocale)) {
+        if (acceptLanguageLocale != null) {
             return acceptLanguageLocale;
         }
         
@@ -73,62 +112,157 @@ public class LocaleResolverService {
      * Get locale from Accept-Language header.
      * 
      * @param request The HTTP request
-     * @return The locale from Accept-Language or null if not specified
+     * @return The negotiated supported locale or null if none is acceptable
      */
     private String getAcceptLanguageLocale(HttpServletRequest request) {
         String acceptLanguage = request.getHeader("Accept-Language");
-        if (acceptLanguage == null || acceptLanguage.trim().isEmpty()) {
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
             return null;
         }
+        return acceptLanguageMemo.get(acceptLanguage, header -> Optional.ofNullable(negotiate(header))).orElse(null);
+    }
+    
+    /**
+     * Pick the supported locale best matching an Accept-Language value, without memoization.
+     * 
+     * @param acceptLanguage Raw header value, e.g. {@code lt-LT,lt;q=0.9,en;q=0.8}
+     * @return The best supported locale, or null if none is acceptable
+     */
+    String negotiate(String acceptLanguage) {
+        List<LanguageRange> ranges = parse(acceptLanguage);
+        // Highest weight first; the sort is stable, so equal weights keep header order
+        ranges.sort((a, b) -> Double.compare(b.quality(), a.quality()));
         
-        // Parse Accept-Language header and find the best match
-        String[] languages = acceptLanguage.split(",");
-        for (String language : languages) {
-            String[] parts = language.split(";");
-            String locale = parts[0].trim();
-            
-            // Convert simple locale to full locale if needed
-            if (locale.equals("lt") || locale.startsWith("lt-")) {
-                return "lt-LT";
-            } else if (locale.equals("en") || locale.startsWith("en-")) {
-                return "en-US";
+        Set<String> excluded = excluded(ranges);
+        
+        for (LanguageRange range : ranges) {
+            if (range.quality() == 0) {
+                break;
+            }
+            if (range.tag().equals("*")) {
+                return supportedLocales.stream().filter(locale -> !excluded.contains(locale)).findFirst().orElse(null);
+            }
+            for (String locale : matches(range.tag())) {
+                if (!excluded.contains(locale)) {
+                    return locale;
+                }
             }
         }
-        
         return null;
     }
     
     /**
-     * Get default locale based on IP country.
-     * 
-     * @param request The HTTP request
-     * @return The default locale based on country
+     * Supported locales ruled out by the q=0 ranges. A region-specific exclusion ({@code en-GB;q=0})
+     * must not reach its siblings, so only exact tags exclude by default; a more specific accepted
+     * range ({@code en;q=0, en-US}) overrides a bare-language exclusion.
      */
-    private String getDefaultLocaleByCountry(HttpServletRequest request) {
-        // Check Cloudflare IP country header
-        String cfCountry = request.getHeader("CF-IPCountry");
-        if (LITHUANIA_COUNTRY_CODE.equals(cfCountry)) {
-            return "lt-LT";
+    private Set<String> excluded(List<LanguageRange> ranges) {
+        if (ranges.stream().noneMatch(range -> range.quality() == 0)) {
+            return Set.of();
         }
-        
-        // Check X-Country header (for development/testing)
-        String xCountry = request.getHeader("X-Country");
-        if (LITHUANIA_COUNTRY_CODE.equals(xCountry)) {
-            return "lt-LT";
+        Set<String> named = new HashSet<>();
+        Set<String> accepted = new HashSet<>();
+        for (LanguageRange range : ranges) {
+            if (range.quality() > 0 && !range.tag().equals("*")) {
+                List<String> matched = matches(range.tag());
+                accepted.addAll(matched);
+                if (!matched.isEmpty() && matched.get(0).equalsIgnoreCase(range.tag())) {
+                    named.add(matched.get(0));
+                }
+            }
         }
         
-        // Default to English
-        return DEFAULT_LOCALE;
+        Set<String> excluded = new HashSet<>();
+        for (LanguageRange range : ranges) {
+            if (range.quality() > 0) {
+                continue;
+            }
+            String tag = range.tag();
+            boolean bareLanguage = tag.indexOf('-') < 0;
+            for (String locale : supportedLocales) {
+                if (tag.equals("*") ? !accepted.contains(locale)
+                        : locale.equalsIgnoreCase(tag)
+                        || bareLanguage && !named.contains(locale) && primaryLanguage(locale).equalsIgnoreCase(tag)) {
+                    excluded.add(locale);
+                }
+            }
+        }
+        return excluded;
     }
     
     /**
-     * Check if a locale string is valid and supported.
+     * Supported locales matching a language range: the exact tag first, then those sharing its
+     * primary language ({@code en-GB} and {@code en} both match {@code en-US}).
+     */
+    private List<String> matches(String tag) {
+        List<String> result = new ArrayList<>(1);
+        for (String locale : supportedLocales) {
+            if (locale.equalsIgnoreCase(tag)) {
+                result.add(0, locale);
+            } else if (primaryLanguage(locale).equalsIgnoreCase(primaryLanguage(tag))) {
+                result.add(locale);
+            }
+        }
+        return result;
+    }
+    
+    private static String primaryLanguage(String tag) {
+        int dash = tag.indexOf('-');
+        return dash < 0 ? tag : tag.substring(0, dash);
+    }
+    
+    /**
+     * Split a header into language ranges with their weights; malformed entries are skipped.
+     */
+    private static List<LanguageRange> parse(String acceptLanguage) {
+        List<LanguageRange> ranges = new ArrayList<>();
+        for (String entry : acceptLanguage.split(",")) {
+            String[] parts = entry.split(";");
+            String tag = parts[0].trim();
+            if (tag.isEmpty()) {
+                continue;
+            }
+            double quality = 1;
+            boolean valid = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        valid = false;
+                    }
+                }
+            }
+            if (valid && quality >= 0 && quality <= 1) {
+                ranges.add(new LanguageRange(tag.toLowerCase(Locale.ROOT), quality));
+            }
+        }
+        return ranges;
+    }
+    
+    /**
+     * Get default locale based on IP country: the supported locale for that region, if any.
      * 
-     * @param locale The locale to validate
-     * @return true if the locale is valid and supported
+     * @param request The HTTP request
+     * @return The default locale based on country
      */
-    private boolean isValidLocale(String locale) {
-        return locale != null && SUPPORTED_LOCALES.contains(locale);
+    private String getDefaultLocaleByCountry(HttpServletRequest request) {
+        // Check Cloudflare IP country header, then X-Country (for development/testing)
+        String country = request.getHeader("CF-IPCountry");
+        if (country == null || country.isBlank()) {
+            country = request.getHeader("X-Country");
+        }
+        if (country != null && !country.isBlank()) {
+            String region = "-" + country.trim();
+            for (String locale : supportedLocales) {
+                if (locale.regionMatches(true, locale.length() - region.length(), region, 0, region.length())) {
+                    return locale;
+                }
+            }
+        }
+        
+        return defaultLocale;
     }
     
     /**
@@ -137,7 +271,7 @@ public class LocaleResolverService {
      * @return Set of supported locale strings
      */
     public Set<String> getSupportedLocales() {
-        return SUPPORTED_LOCALES;
+        return supportedLocales;
     }
     
     /**
@@ -147,6 +281,9 @@ public class LocaleResolverService {
      * @return true if the locale is supported
      */
     public boolean isSupportedLocale(String locale) {
-        return locale != null && SUPPORTED_LOCALES.contains(locale);
+        return locale != null && supportedLocales.contains(locale);
+    }
+    
+    private record LanguageRange(String tag, double quality) {
     }
 }
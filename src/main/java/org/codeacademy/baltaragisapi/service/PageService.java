@@ -1,9 +1,14 @@
 package org.codeacademy.baltaragisapi.service;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.codeacademy.baltaragisapi.catalog.CatalogSnapshot;
+import org.codeacademy.baltaragisapi.catalog.CatalogSnapshotHolder;
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
 import org.codeacademy.baltaragisapi.dto.PageDto;
 import org.codeacademy.baltaragisapi.entity.Page;
+import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.mapper.PageMapper;
 import org.codeacademy.baltaragisapi.repository.PageRepository;
 import org.springframework.stereotype.Service;
@@ -13,24 +18,45 @@ public class PageService {
 
     private final PageRepository pageRepository;
     private final PageMapper pageMapper;
+    private final CatalogSnapshotHolder catalogSnapshots;
+    private final CatalogProperties catalogProperties;
 
-    public PageService(PageRepository pageRepository, PageMapper pageMapper) {
+    public PageService(PageRepository pageRepository, PageMapper pageMapper, CatalogSnapshotHolder catalogSnapshots,
+                       CatalogProperties catalogProperties) {
         this.pageRepository = pageRepository;
         this.pageMapper = pageMapper;
+        this.catalogSnapshots = catalogSnapshots;
+        this.catalogProperties = catalogProperties;
     }
 
     public List<PageDto> listPublished() {
-        return pageRepository.findAll().stream()
-                .filter(Page::getIsPublished)
+        CatalogSnapshot snapshot = snapshot();
+        if (snapshot != null) {
+            return snapshot.pages();
+        }
+        return pageRepository.findByIsPublishedTrue().stream()
+                .sorted(Comparator.comparing(Page::getId))
                 .map(pageMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     public PageDto getBySlug(String slug) {
-        return pageRepository.findBySlugAndIsPublishedTrue(slug)
-                .map(pageMapper::toDto)
-                .orElse(null);
+        // The snapshot holds every published page, so a miss there is a miss in the database too
+        CatalogSnapshot snapshot = snapshot();
+        PageDto page = snapshot != null
+                ? snapshot.page(slug)
+                : pageRepository.findBySlugAndIsPublishedTrue(slug).map(pageMapper::toDto).orElse(null);
+        if (page == null) {
+            throw new NotFoundException("Page not found");
+        }
+        return page;
     }
-}
-
 
+    /**
+     * The catalog snapshot, or null when pages must be read from the database: before it is built,
+     * and on several nodes, where other nodes' page changes never reach it.
+     */
+    private CatalogSnapshot snapshot() {
+        return catalogProperties.isSingleNode() ? catalogSnapshots.current() : null;
+    }
+}
@@ -2,10 +2,12 @@ package org.codeacademy.baltaragisapi.service;
 
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.entity.ProductPhoto;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
 import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.media.MediaStorage;
 import org.codeacademy.baltaragisapi.repository.ProductPhotoRepository;
 import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,6 +17,7 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Set;
 
@@ -35,15 +38,18 @@ public class PhotoUploadService {
     private final ProductRepository productRepository;
     private final ProductPhotoRepository productPhotoRepository;
     private final ProductPhotoMapper productPhotoMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     public PhotoUploadService(MediaStorage mediaStorage, 
                             ProductRepository productRepository, 
                             ProductPhotoRepository productPhotoRepository,
-                            ProductPhotoMapper productPhotoMapper) {
+                            ProductPhotoMapper productPhotoMapper,
+                            ApplicationEventPublisher eventPublisher) {
         this.mediaStorage = mediaStorage;
         this.productRepository = productRepository;
         this.productPhotoRepository = productPhotoRepository;
         this.productPhotoMapper = productPhotoMapper;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
@@ -82,7 +88,12 @@ public class PhotoUploadService {
             photo.setHeight(dimensions.height());
             photo.setSortOrder(sortOrder != null ? sortOrder : getNextSortOrder(productId));
             
-            return productPhotoRepository.save(photo);
+            // Photos are part of the product detail, so bump the product's version and timestamp
+            product.setUpdatedAt(OffsetDateTime.now());
+            
+            ProductPhoto savedPhoto = productPhotoRepository.save(photo);
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
+            return savedPhoto;
         } catch (IOException e) {
             throw new ValidationException("Failed to upload file: " + e.getMessage(), null);
         }
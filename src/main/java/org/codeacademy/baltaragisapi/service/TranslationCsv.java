@@ -0,0 +1,93 @@
+package org.codeacademy.baltaragisapi.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader and writer for translation files: comma separated, fields quoted with
+ * {@code "} when they contain a comma, quote or line break, quotes doubled inside quoted fields.
+ * Reads one record at a time, so memory stays bounded by the longest record.
+ */
+final class TranslationCsv {
+
+    static final List<String> HEADER = List.of("locale", "key", "value");
+
+    private TranslationCsv() {
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @param reader Source, ideally buffered
+     * @return The record's fields, or null at end of input
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    static List<String> readRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                // Opening quote, or the second half of an escaped "" inside a quoted field
+                if (afterQuote) {
+                    field.append('"');
+                }
+                quoted = true;
+                afterQuote = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+                afterQuote = false;
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Write one record terminated by CRLF.
+     */
+    static void writeRecord(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, fields[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeField(Writer writer, String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,139 @@
+package org.codeacademy.baltaragisapi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.config.I18nProperties;
+import org.codeacademy.baltaragisapi.entity.TranslationMiss;
+import org.codeacademy.baltaragisapi.repository.TranslationMissRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts lookups of translation keys that do not exist, per (locale, key).
+ * <p>
+ * Recording is a map lookup plus a {@link LongAdder} increment, with no lock and no I/O, so it is
+ * safe on the translation hot path. At most {@code app.i18n.miss-tracking-max-keys} pairs are
+ * counted between flushes; misses of further pairs only bump a dropped counter. Counts are added
+ * to the translation_miss table every {@code app.i18n.miss-flush-interval}, which also frees the
+ * in-memory slots. Totals are exported as {@code i18n.translation.misses} metrics.
+ */
+@Slf4j
+@Component
+public class TranslationMissTracker {
+
+    // translation_miss.translation_key column width
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final TranslationMissRepository missRepository;
+    private final int maxKeys;
+
+    private final ConcurrentMap<Miss, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public TranslationMissTracker(TranslationMissRepository missRepository,
+                                  I18nProperties i18nProperties,
+                                  MeterRegistry meterRegistry) {
+        this.missRepository = missRepository;
+        this.maxKeys = i18nProperties.getMissTrackingMaxKeys();
+        FunctionCounter.builder("i18n.translation.misses", total, LongAdder::sum)
+                .description("Translation lookups that fell back to the key")
+                .register(meterRegistry);
+        FunctionCounter.builder("i18n.translation.misses.dropped", dropped, LongAdder::sum)
+                .description("Misses not attributed to a key because the in-memory key limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("i18n.translation.misses.pending.keys", pending, Map::size)
+                .description("Distinct missing (locale, key) pairs counted since the last flush")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count one lookup of a missing key.
+     */
+    public void record(String locale, String key) {
+        total.increment();
+        if (key.length() > MAX_KEY_LENGTH) {
+            dropped.increment();
+            return;
+        }
+        Miss miss = new Miss(locale, key);
+        LongAdder counter = pending.get(miss);
+        if (counter == null) {
+            // The size check races with other first misses, so the bound can be overshot slightly
+            if (pending.size() >= maxKeys) {
+                dropped.increment();
+                return;
+            }
+            counter = pending.computeIfAbsent(miss, m -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Add the counted misses to the translation_miss table and start counting afresh.
+     * Counts that cannot be written are kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${app.i18n.miss-flush-interval:PT5M}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        int written = 0;
+        for (Iterator<Map.Entry<Miss, LongAdder>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Miss, LongAdder> entry = it.next();
+            // An increment landing between removal and sum is lost; fine for telemetry
+            it.remove();
+            long count = entry.getValue().sum();
+            if (count == 0) {
+                continue;
+            }
+            try {
+                write(entry.getKey(), count, now);
+                written++;
+            } catch (DataAccessException e) {
+                log.warn("Could not store translation misses for {}, retrying next flush", entry.getKey(), e);
+                pending.computeIfAbsent(entry.getKey(), m -> new LongAdder()).add(count);
+            }
+        }
+        log.debug("Flushed misses of {} translation keys", written);
+    }
+
+    /**
+     * Most frequently missed keys that still do not exist, including misses not flushed yet.
+     *
+     * @param limit Maximum number of rows
+     */
+    public List<TranslationMiss> findTop(int limit) {
+        flush();
+        return missRepository.findUnresolved(PageRequest.of(0, limit));
+    }
+
+    private void write(Miss miss, long count, OffsetDateTime seenAt) {
+        if (missRepository.addMisses(miss.locale(), miss.key(), count, seenAt) > 0) {
+            return;
+        }
+        TranslationMiss row = new TranslationMiss();
+        row.setLocale(miss.locale());
+        row.setKey(miss.key());
+        row.setMissCount(count);
+        row.setFirstSeenAt(seenAt);
+        row.setLastSeenAt(seenAt);
+        missRepository.save(row);
+    }
+
+    private record Miss(String locale, String key) {
+    }
+}
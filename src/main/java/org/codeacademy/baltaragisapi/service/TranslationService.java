@@ -1,31 +1,97 @@
 package org.codeacademy.baltaragisapi.service;
 
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.config.I18nProperties;
+import org.codeacademy.baltaragisapi.dto.TranslationDeltaDto;
+import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationResponse;
+import org.codeacademy.baltaragisapi.dto.admin.MissingTranslationResponse;
 import org.codeacademy.baltaragisapi.entity.Translation;
+import org.codeacademy.baltaragisapi.entity.TranslationTombstone;
+import org.codeacademy.baltaragisapi.event.TranslationsChangedEvent;
 import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.repository.TranslationRepository;
+import org.codeacademy.baltaragisapi.repository.TranslationTombstoneRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for managing internationalized translations.
+ * <p>
+ * Reads are served from an immutable key-value bundle per locale, loaded with one query on first
+ * use and replaced wholesale once a change to that locale has committed, so a lookup is a hash hit.
+ * Only this node's commits announce changes, so on several nodes ({@code app.catalog.single-node} off)
+ * bundles are also reloaded every {@code app.i18n.bundle-refresh-interval}.
+ * <p>
+ * Clients holding a bundle can catch up with {@link #getTranslationsSince}: the sync version is the
+ * newest updated_at (or tombstone deleted_at) of the locale in epoch milliseconds, held at least
+ * {@code app.i18n.sync-overlap} behind now, and a delta lists everything changed at or after it.
+ * Timestamps are taken when a row is written, not when its transaction commits, so a later stamp
+ * can become visible first; the overlap re-serves recent changes so that a slower transaction's
+ * rows are repeated in the next delta instead of skipped.
+ * <p>
+ * A key's namespace is its first dotted segment ({@code common}, {@code nav}, ...). Bundles are
+ * sorted by key, so a namespace is a contiguous key range; namespaces configured as server-only
+ * ({@code app.i18n.server-namespaces}) are left out of everything served publicly.
  */
 @Service
 @Transactional
 public class TranslationService {
     
     private final TranslationRepository translationRepository;
+    private final TranslationTombstoneRepository tombstoneRepository;
     private final LocaleResolverService localeResolverService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TranslationMissTracker missTracker;
+    private final Set<String> serverNamespaces;
+    private final long syncOverlapMillis;
+    private final boolean singleNode;
+
+    /**
+     * Entries per JDBC write batch; also bounds the key list of each prefetch query.
+     */
+    public static final int WRITE_BATCH_SIZE = 500;
+
+    public static final int MAX_MISSING_TRANSLATIONS = 500;
+
+    private final ConcurrentMap<String, Bundle> bundles = new ConcurrentHashMap<>();
+    private final AtomicLong bundleVersions = new AtomicLong();
     
     public TranslationService(TranslationRepository translationRepository, 
-                            LocaleResolverService localeResolverService) {
+                            TranslationTombstoneRepository tombstoneRepository,
+                            LocaleResolverService localeResolverService,
+                            ApplicationEventPublisher eventPublisher,
+                            TranslationMissTracker missTracker,
+                            I18nProperties i18nProperties,
+                            CatalogProperties catalogProperties) {
         this.translationRepository = translationRepository;
+        this.tombstoneRepository = tombstoneRepository;
         this.localeResolverService = localeResolverService;
+        this.eventPublisher = eventPublisher;
+        this.missTracker = missTracker;
+        this.serverNamespaces = Set.copyOf(i18nProperties.getServerNamespaces());
+        this.syncOverlapMillis = i18nProperties.getSyncOverlap().toMillis();
+        this.singleNode = catalogProperties.isSingleNode();
     }
     
     /**
@@ -34,21 +100,135 @@ public class TranslationService {
      * @param locale The locale to get translations for
      * @return Map of translation key to value
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, String> getTranslationsForLocale(String locale) {
         if (!localeResolverService.isSupportedLocale(locale)) {
             throw new ValidationException("Unsupported locale: " + locale, null);
         }
         
-        List<Translation> translations = translationRepository.findByLocaleOrderByKeyAsc(locale);
-        Map<String, String> result = new HashMap<>();
-        
-        for (Translation translation : translations) {
-            result.put(translation.getKey(), translation.getValue());
+        return bundle(locale).translations();
+    }
+
+    /**
+     * Get the translations of a locale that may be served publicly, i.e. without server-only namespaces.
+     *
+     * @param locale The locale to get translations for
+     * @return Map of translation key to value
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, String> getPublicTranslations(String locale) {
+        if (!localeResolverService.isSupportedLocale(locale)) {
+            throw new ValidationException("Unsupported locale: " + locale, null);
         }
-        
-        return result;
+
+        return bundle(locale).publicTranslations();
+    }
+
+    /**
+     * Get the translations of one public namespace, e.g. all {@code nav.*} keys.
+     *
+     * @param locale The locale to get translations for
+     * @param namespace First dotted segment of the keys
+     * @return Map of translation key to value
+     * @throws NotFoundException if the namespace has no keys or is server-only
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, String> getNamespaceTranslations(String locale, String namespace) {
+        if (!localeResolverService.isSupportedLocale(locale)) {
+            throw new ValidationException("Unsupported locale: " + locale, null);
+        }
+        if (serverNamespaces.contains(namespace)) {
+            throw new NotFoundException("Translation namespace not found: " + namespace);
+        }
+
+        // Keys of the namespace sort between "ns." and "ns/" ('/' follows '.')
+        Map<String, String> translations = bundle(locale).translations()
+                .subMap(namespace + ".", true, namespace + "/", false);
+        if (translations.isEmpty()) {
+            throw new NotFoundException("Translation namespace not found: " + namespace);
+        }
+        return translations;
+    }
+
+    /**
+     * Version of a locale's translations; changes whenever they are reloaded after a change.
+     *
+     * @param locale The locale
+     * @return Bundle version
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getTranslationsVersion(String locale) {
+        if (!localeResolverService.isSupportedLocale(locale)) {
+            throw new ValidationException("Unsupported locale: " + locale, null);
+        }
+
+        return bundle(locale).version();
     }
     
+    /**
+     * Sync version of a locale: the time of its latest change or deletion in epoch milliseconds,
+     * but no later than now minus the sync overlap, or 0 when it has neither.
+     *
+     * @param locale The locale
+     * @return Sync version
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getTranslationsSyncVersion(String locale) {
+        if (!localeResolverService.isSupportedLocale(locale)) {
+            throw new ValidationException("Unsupported locale: " + locale, null);
+        }
+
+        long lastChange = Math.max(toVersion(translationRepository.findLastUpdatedAt(locale)),
+                toVersion(tombstoneRepository.findLastDeletedAt(locale)));
+        // Uncommitted rows are stamped within the overlap, so a version before it cannot pass them
+        return Math.max(0, Math.min(lastChange, System.currentTimeMillis() - syncOverlapMillis));
+    }
+
+    /**
+     * Get translations of a locale changed or deleted since a sync version.
+     *
+     * @param locale The locale
+     * @param since Sync version from a previous bundle or delta
+     * @return Changed and deleted keys plus the version to sync from next
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TranslationDeltaDto getTranslationsSince(String locale, long since) {
+        if (since < 0) {
+            throw new ValidationException("Invalid since", Map.of("since", "must be a version returned by this API"));
+        }
+        // Read the version first; anything committed meanwhile is stamped after it and comes again next time
+        long version = Math.max(since, getTranslationsSyncVersion(locale));
+
+        OffsetDateTime from = Instant.ofEpochMilli(since).atOffset(ZoneOffset.UTC);
+        Map<String, String> changed = new LinkedHashMap<>();
+        for (Object[] row : translationRepository.findKeyValuePairsChangedSince(locale, from)) {
+            if (isPublicKey((String) row[0])) {
+                changed.put((String) row[0], (String) row[1]);
+            }
+        }
+        return TranslationDeltaDto.builder()
+                .version(version)
+                .changed(changed)
+                .deleted(tombstoneRepository.findKeysDeletedSince(locale, from).stream()
+                        .filter(this::isPublicKey)
+                        .toList())
+                .build();
+    }
+
+    private static long toVersion(OffsetDateTime time) {
+        return time == null ? 0 : time.toInstant().toEpochMilli();
+    }
+
+    /**
+     * Get all supported locales.
+     *
+     * @return Supported locale codes
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Set<String> getSupportedLocales() {
+        return localeResolverService.getSupportedLocales();
+    }
+
     /**
      * Get a specific translation by key and locale.
      * 
@@ -56,13 +236,41 @@ public class TranslationService {
      * @param locale The locale
      * @return The translation value
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getTranslation(String key, String locale) {
         if (!localeResolverService.isSupportedLocale(locale)) {
             throw new ValidationException("Unsupported locale: " + locale, null);
         }
         
-        Optional<Translation> translation = translationRepository.findByKeyAndLocale(key, locale);
-        return translation.map(Translation::getValue).orElse(key); // Fallback to key if not found
+        String value = bundle(locale).translations().get(key);
+        if (value == null) {
+            missTracker.record(locale, key);
+            return key; // Fallback to key if not found
+        }
+        return value;
+    }
+
+    /**
+     * Get the most frequently missed translation keys that still do not exist.
+     *
+     * @param limit Maximum number of entries
+     * @return Missed keys, most misses first
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<MissingTranslationResponse> getMissingTranslations(int limit) {
+        if (limit < 1 || limit > MAX_MISSING_TRANSLATIONS) {
+            throw new ValidationException("Invalid limit",
+                    Map.of("limit", "must be between 1 and " + MAX_MISSING_TRANSLATIONS));
+        }
+        return missTracker.findTop(limit).stream()
+                .map(miss -> MissingTranslationResponse.builder()
+                        .locale(miss.getLocale())
+                        .key(miss.getKey())
+                        .count(miss.getMissCount())
+                        .firstSeenAt(miss.getFirstSeenAt())
+                        .lastSeenAt(miss.getLastSeenAt())
+                        .build())
+                .toList();
     }
     
     /**
@@ -71,6 +279,7 @@ public class TranslationService {
      * @param key The translation key
      * @return The translation value for the current locale
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getTranslation(String key) {
         String locale = localeResolverService.resolveLocale();
         return getTranslation(key, locale);
@@ -85,17 +294,16 @@ public class TranslationService {
      * @return The created or updated translation
      */
     public Translation upsertTranslation(String key, String locale, String value) {
+        Translation translation = saveTranslation(key, locale, value);
+        eventPublisher.publishEvent(new TranslationsChangedEvent(locale));
+        return translation;
+    }
+
+    private Translation saveTranslation(String key, String locale, String value) {
         if (!localeResolverService.isSupportedLocale(locale)) {
             throw new ValidationException("Unsupported locale: " + locale, null);
         }
-        
-        if (key == null || key.trim().isEmpty()) {
-            throw new ValidationException("Translation key is required", null);
-        }
-        
-        if (value == null || value.trim().isEmpty()) {
-            throw new ValidationException("Translation value is required", null);
-        }
+        validateEntry(key, value);
         
         Optional<Translation> existing = translationRepository.findByKeyAndLocale(key, locale);
         
@@ -108,6 +316,7 @@ public class TranslationService {
             translation.setKey(key.trim());
             translation.setLocale(locale);
             translation.setValue(value.trim());
+            tombstoneRepository.deleteByKeyAndLocale(translation.getKey(), locale);
             return translationRepository.save(translation);
         }
     }
@@ -126,6 +335,13 @@ public class TranslationService {
         Optional<Translation> translation = translationRepository.findByKeyAndLocale(key, locale);
         if (translation.isPresent()) {
             translationRepository.delete(translation.get());
+            TranslationTombstone tombstone = tombstoneRepository.findByKeyAndLocale(key, locale)
+                    .orElseGet(TranslationTombstone::new);
+            tombstone.setKey(key);
+            tombstone.setLocale(locale);
+            tombstone.setDeletedAt(OffsetDateTime.now());
+            tombstoneRepository.save(tombstone);
+            eventPublisher.publishEvent(new TranslationsChangedEvent(locale));
         }
     }
     
@@ -150,12 +366,17 @@ public class TranslationService {
     
     /**
      * Bulk upsert translations.
+     * <p>
+     * Entries are written in batches of {@value #WRITE_BATCH_SIZE}: the existing values of a batch's
+     * keys are read with one query, entries are split into new, changed and unchanged keys, and the
+     * writes go out as JDBC batches. Unchanged rows are not touched, so their updated_at (and delta
+     * sync) stays put.
      * 
      * @param translations Map of locale to key-value pairs
-     * @return List of created/updated translations
+     * @return Number of created, updated and unchanged rows
      */
-    public List<Translation> bulkUpsertTranslations(Map<String, Map<String, String>> translations) {
-        List<Translation> results = new java.util.ArrayList<>();
+    public BulkTranslationResponse bulkUpsertTranslations(Map<String, Map<String, String>> translations) {
+        BulkTranslationResponse total = BulkTranslationResponse.builder().build();
         
         for (Map.Entry<String, Map<String, String>> localeEntry : translations.entrySet()) {
             String locale = localeEntry.getKey();
@@ -164,17 +385,99 @@ public class TranslationService {
                 throw new ValidationException("Unsupported locale: " + locale, null);
             }
             
-            Map<String, String> keyValuePairs = localeEntry.getValue();
-            for (Map.Entry<String, String> keyValueEntry : keyValuePairs.entrySet()) {
-                String key = keyValueEntry.getKey();
-                String value = keyValueEntry.getValue();
-                
-                Translation translation = upsertTranslation(key, locale, value);
-                results.add(translation);
+            BulkTranslationResponse localeTotal = BulkTranslationResponse.builder().build();
+            Map<String, String> batch = new LinkedHashMap<>();
+            for (Map.Entry<String, String> keyValueEntry : localeEntry.getValue().entrySet()) {
+                batch.put(keyValueEntry.getKey(), keyValueEntry.getValue());
+                if (batch.size() == WRITE_BATCH_SIZE) {
+                    localeTotal = localeTotal.plus(writeBatch(locale, batch));
+                    batch.clear();
+                }
             }
+            if (!batch.isEmpty()) {
+                localeTotal = localeTotal.plus(writeBatch(locale, batch));
+            }
+            
+            // One reload per locale, not per key, and none when nothing changed
+            if (localeTotal.getCreated() + localeTotal.getUpdated() > 0) {
+                eventPublisher.publishEvent(new TranslationsChangedEvent(locale));
+            }
+            total = total.plus(localeTotal);
         }
         
-        return results;
+        return total;
+    }
+
+    /**
+     * Upsert one batch of a streamed import in its own transaction. Unlike
+     * {@link #bulkUpsertTranslations}, no reload is announced; call {@link #finishImport} once the
+     * whole file is in.
+     *
+     * @param locale The locale
+     * @param batch Key-value pairs, at most {@value #WRITE_BATCH_SIZE}
+     * @return Number of created, updated and unchanged rows
+     */
+    public BulkTranslationResponse importBatch(String locale, Map<String, String> batch) {
+        if (!localeResolverService.isSupportedLocale(locale)) {
+            throw new ValidationException("Unsupported locale: " + locale, null);
+        }
+        if (batch.size() > WRITE_BATCH_SIZE) {
+            throw new IllegalArgumentException("Import batches hold at most " + WRITE_BATCH_SIZE + " entries");
+        }
+        return writeBatch(locale, batch);
+    }
+
+    /**
+     * Announce the locales touched by a streamed import, so bundles reload once per locale.
+     *
+     * @param locales Locales that received created or updated rows
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void finishImport(Collection<String> locales) {
+        locales.forEach(locale -> eventPublisher.publishEvent(new TranslationsChangedEvent(locale)));
+    }
+
+    private BulkTranslationResponse writeBatch(String locale, Map<String, String> batch) {
+        Map<String, String> inserts = new LinkedHashMap<>();
+        Map<String, String> updates = new LinkedHashMap<>();
+        int unchanged = 0;
+        for (Map.Entry<String, String> entry : batch.entrySet()) {
+            validateEntry(entry.getKey(), entry.getValue());
+            inserts.put(entry.getKey().trim(), entry.getValue().trim());
+        }
+        
+        for (Object[] row : translationRepository.findKeyValuePairsByLocaleAndKeys(locale, inserts.keySet())) {
+            String value = inserts.remove((String) row[0]);
+            if (row[1].equals(value)) {
+                unchanged++;
+            } else {
+                updates.put((String) row[0], value);
+            }
+        }
+        
+        OffsetDateTime now = OffsetDateTime.now();
+        if (!inserts.isEmpty()) {
+            translationRepository.batchDeleteTombstones(locale, inserts.keySet());
+            translationRepository.batchInsert(locale, inserts, now);
+        }
+        if (!updates.isEmpty()) {
+            translationRepository.batchUpdate(locale, updates, now);
+        }
+        return BulkTranslationResponse.builder()
+                .created(inserts.size())
+                .updated(updates.size())
+                .unchanged(unchanged)
+                .build();
+    }
+
+    private static void validateEntry(String key, String value) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new ValidationException("Translation key is required", null);
+        }
+        
+        if (value == null || value.trim().isEmpty()) {
+            throw new ValidationException("Translation value is required", null);
+        }
     }
     
     /**
@@ -182,7 +485,76 @@ public class TranslationService {
      * 
      * @return The resolved locale string
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getCurrentLocale() {
         return localeResolverService.resolveLocale();
     }
+
+    /**
+     * Swap in a freshly loaded bundle once a change to its locale has committed. Locales nobody
+     * has read yet are left to load on first use.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTranslationsChanged(TranslationsChangedEvent event) {
+        bundles.computeIfPresent(event.locale(), (locale, stale) -> loadBundle(locale));
+    }
+
+    /**
+     * Reload the bundles read so far when several nodes share the database, so changes committed through
+     * another node are served within one interval. A bundle whose content did not change is kept with its
+     * version, so served bundles and compiled emails built from it are not rebuilt.
+     */
+    @Scheduled(fixedDelayString = "${app.i18n.bundle-refresh-interval:PT1M}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshBundles() {
+        if (singleNode) {
+            return;
+        }
+        for (String locale : bundles.keySet()) {
+            bundles.computeIfPresent(locale, (key, current) -> {
+                NavigableMap<String, String> translations = readTranslations(key);
+                return translations.equals(current.translations()) ? current : toBundle(translations);
+            });
+        }
+    }
+
+    private Bundle bundle(String locale) {
+        return bundles.computeIfAbsent(locale, this::loadBundle);
+    }
+
+    private Bundle loadBundle(String locale) {
+        return toBundle(readTranslations(locale));
+    }
+
+    private NavigableMap<String, String> readTranslations(String locale) {
+        NavigableMap<String, String> translations = new TreeMap<>();
+        for (Object[] row : translationRepository.findKeyValuePairsByLocale(locale)) {
+            translations.put((String) row[0], (String) row[1]);
+        }
+        return translations;
+    }
+
+    private Bundle toBundle(NavigableMap<String, String> translations) {
+        Map<String, String> publicTranslations = new LinkedHashMap<>();
+        translations.forEach((key, value) -> {
+            if (isPublicKey(key)) {
+                publicTranslations.put(key, value);
+            }
+        });
+        return new Bundle(bundleVersions.incrementAndGet(), Collections.unmodifiableNavigableMap(translations),
+                Collections.unmodifiableMap(publicTranslations));
+    }
+
+    private boolean isPublicKey(String key) {
+        int dot = key.indexOf('.');
+        return !serverNamespaces.contains(dot < 0 ? key : key.substring(0, dot));
+    }
+
+    /**
+     * Immutable translations of one locale, ordered by key, with and without server-only namespaces.
+     */
+    private record Bundle(long version, NavigableMap<String, String> translations,
+                          Map<String, String> publicTranslations) {
+    }
 }
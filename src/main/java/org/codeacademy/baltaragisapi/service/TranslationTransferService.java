@@ -0,0 +1,234 @@
+package org.codeacademy.baltaragisapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationResponse;
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+import org.codeacademy.baltaragisapi.repository.TranslationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Streaming import and export of translation files in JSON and CSV.
+ * <p>
+ * Imports are parsed entry by entry and written through {@link TranslationService#importBatch} in
+ * batches of {@value TranslationService#WRITE_BATCH_SIZE}, each committed on its own, so heap use
+ * does not grow with the file. A malformed file stops the import; batches already written stay,
+ * and the error names how many entries were read.
+ * Exports stream rows from the database straight to the response.
+ * <p>
+ * JSON files map locale to key to value, optionally wrapped in {@code "translations"} like the bulk
+ * request. CSV files have a {@code locale,key,value} header.
+ */
+@Slf4j
+@Service
+public class TranslationTransferService {
+
+    private final TranslationService translationService;
+    private final TranslationRepository translationRepository;
+    private final ObjectMapper objectMapper;
+
+    public TranslationTransferService(TranslationService translationService,
+                                      TranslationRepository translationRepository,
+                                      ObjectMapper objectMapper) {
+        this.translationService = translationService;
+        this.translationRepository = translationRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Import a JSON translation file.
+     *
+     * @param in JSON document, read once
+     * @return Number of created, updated and unchanged rows
+     * @throws ValidationException if the document is malformed or holds an invalid entry
+     */
+    public BulkTranslationResponse importJson(InputStream in) throws IOException {
+        Importer importer = new Importer();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            JsonToken token = parser.nextToken();
+            boolean wrapped = token == JsonToken.FIELD_NAME && "translations".equals(parser.currentName());
+            if (wrapped) {
+                expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+                token = parser.nextToken();
+            }
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String locale = parser.currentName();
+                expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.currentName();
+                    expect(parser, parser.nextToken(), JsonToken.VALUE_STRING);
+                    importer.add(locale, key, parser.getText());
+                }
+            }
+            expect(parser, token, JsonToken.END_OBJECT);
+            if (wrapped) {
+                expect(parser, parser.nextToken(), JsonToken.END_OBJECT);
+            }
+            return importer.finish();
+        } catch (JsonProcessingException e) {
+            throw invalidFile("Malformed JSON: " + e.getOriginalMessage(), importer);
+        } finally {
+            importer.announce();
+        }
+    }
+
+    /**
+     * Import a CSV translation file.
+     *
+     * @param reader CSV text with a {@code locale,key,value} header, read once
+     * @return Number of created, updated and unchanged rows
+     * @throws ValidationException if the file is malformed or holds an invalid entry
+     */
+    public BulkTranslationResponse importCsv(Reader reader) throws IOException {
+        Importer importer = new Importer();
+        try {
+            if (!TranslationCsv.HEADER.equals(TranslationCsv.readRecord(reader))) {
+                throw invalidFile("CSV header must be " + String.join(",", TranslationCsv.HEADER), importer);
+            }
+            for (List<String> record = TranslationCsv.readRecord(reader); record != null;
+                 record = TranslationCsv.readRecord(reader)) {
+                if (record.size() == 1 && record.get(0).isEmpty()) {
+                    continue;
+                }
+                if (record.size() != 3) {
+                    throw invalidFile("Expected 3 fields but got " + record.size(), importer);
+                }
+                importer.add(record.get(0), record.get(1), record.get(2));
+            }
+            return importer.finish();
+        } catch (IllegalArgumentException e) {
+            throw invalidFile(e.getMessage(), importer);
+        } finally {
+            importer.announce();
+        }
+    }
+
+    /**
+     * Write translations as JSON, locale to key to value.
+     *
+     * @param locale Only this locale, or null for all
+     * @param out Destination, flushed but not closed
+     */
+    @Transactional(readOnly = true)
+    public void exportJson(String locale, OutputStream out) throws IOException {
+        try (Stream<Object[]> rows = translationRepository.streamForExport(locale);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // The caller owns the stream; closing the generator only flushes it
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            String currentLocale = null;
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                if (!row[0].equals(currentLocale)) {
+                    if (currentLocale != null) {
+                        generator.writeEndObject();
+                    }
+                    currentLocale = (String) row[0];
+                    generator.writeObjectFieldStart(currentLocale);
+                }
+                generator.writeStringField((String) row[1], (String) row[2]);
+            }
+            if (currentLocale != null) {
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Write translations as CSV with a {@code locale,key,value} header.
+     *
+     * @param locale Only this locale, or null for all
+     * @param writer Destination, flushed but not closed
+     */
+    @Transactional(readOnly = true)
+    public void exportCsv(String locale, Writer writer) throws IOException {
+        try (Stream<Object[]> rows = translationRepository.streamForExport(locale)) {
+            TranslationCsv.writeRecord(writer, TranslationCsv.HEADER.toArray(String[]::new));
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                TranslationCsv.writeRecord(writer, (String) row[0], (String) row[1], (String) row[2]);
+            }
+        }
+        writer.flush();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new ValidationException("Invalid translation file",
+                    Map.of("file", "Expected " + expected + " but found " + actual + " at line "
+                            + parser.currentLocation().getLineNr()));
+        }
+    }
+
+    private static ValidationException invalidFile(String reason, Importer importer) {
+        return new ValidationException("Invalid translation file",
+                Map.of("file", reason + " (after " + importer.entries + " entries)"));
+    }
+
+    /**
+     * Buffers one batch of one locale at a time and keeps running totals.
+     */
+    private class Importer {
+
+        private final Map<String, String> batch = new LinkedHashMap<>();
+        private final Set<String> changedLocales = new LinkedHashSet<>();
+        private String batchLocale;
+        private long entries;
+        private int batches;
+        private BulkTranslationResponse total = BulkTranslationResponse.builder().build();
+
+        void add(String locale, String key, String value) {
+            if (!locale.equals(batchLocale) || batch.size() == TranslationService.WRITE_BATCH_SIZE) {
+                flush();
+                batchLocale = locale;
+            }
+            batch.put(key, value);
+            entries++;
+        }
+
+        BulkTranslationResponse finish() {
+            flush();
+            log.info("Translation import finished: {} entries in {} batches, {} created, {} updated, {} unchanged",
+                    entries, batches, total.getCreated(), total.getUpdated(), total.getUnchanged());
+            return total;
+        }
+
+        /**
+         * Reload the locales written so far; also runs when the import fails halfway.
+         */
+        void announce() {
+            translationService.finishImport(changedLocales);
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            BulkTranslationResponse result = translationService.importBatch(batchLocale, batch);
+            if (result.getCreated() + result.getUpdated() > 0) {
+                changedLocales.add(batchLocale);
+            }
+            total = total.plus(result);
+            batches++;
+            batch.clear();
+            log.info("Translation import progress: {} entries in {} batches", entries, batches);
+        }
+    }
+}
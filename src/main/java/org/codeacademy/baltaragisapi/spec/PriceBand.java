@@ -0,0 +1,79 @@
+package org.codeacademy.baltaragisapi.spec;
+
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+
+import java.util.Map;
+
+/**
+ * Fixed price bands used for catalog filtering and facet counts, in minor units of the product's currency.
+ */
+public enum PriceBand {
+    UNDER_25("0-25", 0, 2500),
+    FROM_25_TO_50("25-50", 2500, 5000),
+    FROM_50_TO_100("50-100", 5000, 10000),
+    FROM_100("100+", 10000, null);
+
+    private final String label;
+    private final int minCents;
+    private final Integer maxCents;
+
+    PriceBand(String label, int minCents, Integer maxCents) {
+        this.label = label;
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+    }
+
+    /**
+     * Label used in query parameters and facet responses, e.g. {@code 25-50}.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Inclusive lower bound in cents.
+     */
+    public int getMinCents() {
+        return minCents;
+    }
+
+    /**
+     * Exclusive upper bound in cents, or null for the open-ended top band.
+     */
+    public Integer getMaxCents() {
+        return maxCents;
+    }
+
+    public boolean contains(Integer cents) {
+        return cents != null && cents >= minCents && (maxCents == null || cents < maxCents);
+    }
+
+    /**
+     * Band of a price, or null when the price is unknown.
+     */
+    public static PriceBand of(Integer cents) {
+        if (cents == null) {
+            return null;
+        }
+        for (PriceBand band : values()) {
+            if (band.contains(cents)) {
+                return band;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse a band label.
+     *
+     * @throws ValidationException if the label names no band
+     */
+    public static PriceBand fromLabel(String label) {
+        for (PriceBand band : values()) {
+            if (band.label.equals(label)) {
+                return band;
+            }
+        }
+        throw new ValidationException("Invalid price band", Map.of("price", "Price band must be one of 0-25, 25-50, 50-100, 100+"));
+    }
+}
@@ -0,0 +1,81 @@
+package org.codeacademy.baltaragisapi.spec;
+
+import org.codeacademy.baltaragisapi.dto.ProductCardDto;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Storefront filters on the product listing. Each field is optional; null means "any".
+ * The same filter is evaluated in SQL ({@link #toSpecification()}) and in memory ({@link #matches}),
+ * depending on where the listing is served from.
+ *
+ * @param priceBand Price band
+ * @param inStock Only products in stock (true) or out of stock (false)
+ * @param currency ISO currency code
+ */
+public record ProductFilter(PriceBand priceBand, Boolean inStock, String currency) {
+
+    public static final ProductFilter NONE = new ProductFilter(null, null, null);
+
+    /**
+     * Build a filter from request parameters.
+     *
+     * @param price Price band label, e.g. {@code 25-50}
+     * @param inStock Stock state
+     * @param currency ISO currency code, case-insensitive
+     */
+    public static ProductFilter of(String price, Boolean inStock, String currency) {
+        return new ProductFilter(
+                price == null || price.isBlank() ? null : PriceBand.fromLabel(price.trim()),
+                inStock,
+                currency == null || currency.isBlank() ? null : currency.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isEmpty() {
+        return priceBand == null && inStock == null && currency == null;
+    }
+
+    public Specification<Product> toSpecification() {
+        Specification<Product> spec = (root, query, cb) -> null;
+        if (priceBand != null) {
+            spec = spec.and(ProductSpecifications.byPriceRange(priceBand.getMinCents(), priceBand.getMaxCents()));
+        }
+        if (inStock != null) {
+            spec = spec.and(ProductSpecifications.byInStock(inStock));
+        }
+        if (currency != null) {
+            spec = spec.and(ProductSpecifications.byCurrency(currency));
+        }
+        return spec;
+    }
+
+    public boolean matches(ProductCardDto card) {
+        return matchesPrice(card) && matchesStock(card) && matchesCurrency(card);
+    }
+
+    public boolean matchesPrice(ProductCardDto card) {
+        return matchesPrice(PriceBand.of(card.getPriceCents()));
+    }
+
+    public boolean matchesPrice(PriceBand band) {
+        return priceBand == null || priceBand == band;
+    }
+
+    public boolean matchesStock(ProductCardDto card) {
+        return matchesStock(card.isInStock());
+    }
+
+    public boolean matchesStock(boolean cardInStock) {
+        return inStock == null || inStock == cardInStock;
+    }
+
+    public boolean matchesCurrency(ProductCardDto card) {
+        return matchesCurrency(card.getCurrency());
+    }
+
+    public boolean matchesCurrency(String cardCurrency) {
+        return currency == null || currency.equals(cardCurrency);
+    }
+}
@@ -1,8 +1,15 @@
 package org.codeacademy.baltaragisapi.spec;
 
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.repository.ProductCardRow;
+import org.codeacademy.baltaragisapi.search.MySqlFullTextFunctions;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+import java.util.StringJoiner;
+
 public final class ProductSpecifications {
 
     private ProductSpecifications() {}
@@ -23,6 +30,81 @@ public final class ProductSpecifications {
         );
     }
 
+    /**
+     * Text search: {@link #byFullText} when the database supports it, otherwise {@link #byQuery} (LIKE).
+     */
+    public static Specification<Product> byText(String queryText, boolean fullTextAvailable) {
+        return fullTextAvailable ? byFullText(queryText) : byQuery(queryText);
+    }
+
+    /**
+     * Full-text match against the MySQL FULLTEXT index on name, short and long description.
+     * Every word must match (as a prefix) in boolean mode; unsorted row queries (entities or
+     * {@link ProductCardRow}s, not counts or other projections) are ordered by natural-language
+     * relevance. Requires {@link MySqlFullTextFunctions} to be registered.
+     */
+    public static Specification<Product> byFullText(String queryText) {
+        String booleanQuery = toBooleanModeQuery(queryText);
+        if (booleanQuery.isEmpty()) {
+            return null;
+        }
+        String naturalQuery = queryText.trim();
+        return (root, query, cb) -> {
+            if (isRowQuery(query) && query.getOrderList().isEmpty()) {
+                Expression<Double> relevance = cb.function(MySqlFullTextFunctions.NATURAL_LANGUAGE, Double.class,
+                        root.get("name"), root.get("shortDesc"), root.get("longDesc"), cb.literal(naturalQuery));
+                query.orderBy(cb.desc(relevance), cb.asc(root.get("id")));
+            }
+            Expression<Double> match = cb.function(MySqlFullTextFunctions.BOOLEAN, Double.class,
+                    root.get("name"), root.get("shortDesc"), root.get("longDesc"), cb.literal(booleanQuery));
+            return cb.greaterThan(match, 0d);
+        };
+    }
+
+    private static boolean isRowQuery(CriteriaQuery<?> query) {
+        return query.getResultType() == Product.class || query.getResultType() == ProductCardRow.class;
+    }
+
+    /**
+     * Turn free text into a boolean-mode query requiring every word as a prefix, e.g. {@code +oak* +print*}.
+     * Operator characters are stripped so user input cannot change the query's meaning.
+     */
+    static String toBooleanModeQuery(String queryText) {
+        if (queryText == null) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String word : queryText.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                joiner.add("+" + word + "*");
+            }
+        }
+        return joiner.toString();
+    }
+
+    public static Specification<Product> byIds(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Price in [minCents, maxCents); a null upper bound is open-ended.
+     */
+    public static Specification<Product> byPriceRange(int minCents, Integer maxCents) {
+        return (root, query, cb) -> maxCents == null
+                ? cb.greaterThanOrEqualTo(root.get("priceCents"), minCents)
+                : cb.and(cb.greaterThanOrEqualTo(root.get("priceCents"), minCents), cb.lessThan(root.get("priceCents"), maxCents));
+    }
+
+    public static Specification<Product> byInStock(boolean inStock) {
+        return (root, query, cb) -> inStock
+                ? cb.greaterThan(root.get("quantity"), 0)
+                : cb.lessThanOrEqualTo(root.get("quantity"), 0);
+    }
+
+    public static Specification<Product> byCurrency(String currency) {
+        return (root, query, cb) -> cb.equal(root.get("currency"), currency);
+    }
+
     public static Specification<Product> byCollection(String collectionSlug) {
         // Placeholder for future relation; currently returns null to be ignored when composing
         return null;
@@ -10,6 +10,7 @@ import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -53,6 +54,11 @@ public class ApiExceptionHandler {
         return problem(HttpStatus.CONFLICT, code, ex.getMessage(), req, null);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetails> handleOptimisticLock(ObjectOptimisticLockingFailureException ex, WebRequest req) {
+        return problem(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION", "The resource was modified concurrently, please retry", req, null);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ProblemDetails> handleValidation(ValidationException ex, WebRequest req) {
         List<Map<String, String>> errs = ex.getFieldErrors() == null ? null : ex.getFieldErrors().entrySet()
@@ -20,6 +20,14 @@ public class CacheConfig implements WebMvcConfigurer {
             CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic(),
             "/api/v1/products"
         );
+
+        // Facet counts, suggestions and batch lookups - revalidated against the catalog epoch like the listing
+        interceptor.addCacheMapping(
+            CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic(),
+            "/api/v1/products/facets",
+            "/api/v1/products/suggest",
+            "/api/v1/products/batch"
+        );
         
         // Product detail - longer cache as individual products change less frequently
         interceptor.addCacheMapping(
@@ -0,0 +1,229 @@
+package org.codeacademy.baltaragisapi.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.codeacademy.baltaragisapi.event.PageChangedEvent;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of fully serialized JSON responses for hot public GETs, kept both as plain UTF-8 and gzipped,
+ * so a hit costs neither Jackson nor compression.
+ * <p>
+ * Keys combine the resource and its representation version (the ETag), so a change makes old entries
+ * unreachable; they are also evicted after commit by the same events that announce admin writes.
+ * The gzipped body is a different representation, so it goes out with the loader's ETag suffixed
+ * {@code -gz}; {@link #notModified} accepts either form.
+ * Hit ratios are exported as the {@code responseBodies} cache metrics. Translation bundles have their
+ * own content-hashed cache, see {@link TranslationBundleCache}.
+ */
+@Component
+public class ResponseBodyCache {
+
+    /**
+     * Below this size gzip framing costs more than it saves
+     */
+    private static final int MIN_GZIP_SIZE = 256;
+
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseBodyCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${app.response-cache.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "responseBodies");
+    }
+
+    /**
+     * Serve a response from the cache, building and serializing it on a miss.
+     *
+     * @param key Resource and representation version
+     * @param acceptEncoding Request's Accept-Encoding header, may be null
+     * @param loader Builds the response on a miss; only 200 responses are cached
+     * @return JSON bytes with the loader's headers, gzip-encoded when the client accepts it
+     */
+    public ResponseEntity<byte[]> serve(String key, String acceptEncoding, Supplier<ResponseEntity<?>> loader) {
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached == null) {
+            ResponseEntity<?> response = loader.get();
+            if (response.getStatusCode() != HttpStatus.OK) {
+                return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders()).body(serialize(response.getBody()));
+            }
+            cached = cache.get(key, k -> toCachedResponse(response));
+        }
+
+        boolean gzip = cached.gzip() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(cached.headers())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            String etag = cached.headers().getETag();
+            if (etag != null) {
+                builder.eTag(gzipETag(etag));
+            }
+        }
+        return builder.body(gzip ? cached.gzip() : cached.json());
+    }
+
+    /**
+     * A 304 for a conditional GET whose If-None-Match names the plain or the gzipped form of an ETag,
+     * compared weakly. The 304 echoes the tag the client holds.
+     *
+     * @param etag Strong ETag of the plain representation
+     * @param ifNoneMatch Request's If-None-Match header, may be null
+     * @return The 304 response, or null when the client's copy is outdated
+     */
+    public static ResponseEntity<byte[]> notModified(String etag, String ifNoneMatch) {
+        String matched = matchingETag(etag, ifNoneMatch);
+        if (matched == null) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(matched)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    /**
+     * Strong ETag of the gzipped representation: the plain tag with {@code -gz} inside the quotes.
+     */
+    public static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    /**
+     * The form of an ETag (plain or gzipped) named by an If-None-Match header, or null if neither is.
+     */
+    static String matchingETag(String etag, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String gzipETag = gzipETag(etag);
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return etag;
+            }
+            if (tag.equals(gzipETag)) {
+                return gzipETag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evict every entry whose key starts with the given prefix.
+     */
+    public void evictPrefix(String prefix) {
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evictPrefix(productKeyPrefix(event.productId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPageChanged(PageChangedEvent event) {
+        evictPrefix(pageKeyPrefix(event.pageId()));
+    }
+
+    public static String productKey(Long productId, long version) {
+        return productKeyPrefix(productId) + version;
+    }
+
+    public static String pageKey(Long pageId, long version) {
+        return pageKeyPrefix(pageId) + version;
+    }
+
+    public static String artistKey(Long artistId, long version) {
+        return "artist:" + artistId + ":" + version;
+    }
+
+    private static String productKeyPrefix(Long productId) {
+        return "product:" + productId + ":";
+    }
+
+    private static String pageKeyPrefix(Long pageId) {
+        return "page:" + pageId + ":";
+    }
+
+    private CachedResponse toCachedResponse(ResponseEntity<?> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        byte[] json = serialize(response.getBody());
+        return new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers), json, json.length >= MIN_GZIP_SIZE ? gzip(json) : null);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+    }
+
+    static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether the Accept-Encoding header allows gzip, i.e. lists gzip or * without q=0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private record CachedResponse(HttpHeaders headers, byte[] json, byte[] gzip) {
+        int weight() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
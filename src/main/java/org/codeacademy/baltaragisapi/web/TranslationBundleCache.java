@@ -0,0 +1,154 @@
+package org.codeacademy.baltaragisapi.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codeacademy.baltaragisapi.service.TranslationService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Ready-to-send translation bundles: one JSON document per locale (public keys only) and per
+ * locale namespace, kept as plain and gzipped bytes with a hash of the content. The hash names the
+ * immutable {@code /i18n/{path}.{hash}.json} URL and is the strong ETag of the plain bytes; the gzipped
+ * bytes are a different representation and get {@code "{hash}-gz"}. A bundle is rebuilt only
+ * when the locale's translation version moves, so serving one costs a map lookup and a version check.
+ */
+@Component
+public class TranslationBundleCache {
+
+    private static final int HASH_LENGTH = 16;
+
+    private final TranslationService translationService;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, Bundle> bundles = new ConcurrentHashMap<>();
+
+    public TranslationBundleCache(TranslationService translationService, ObjectMapper objectMapper) {
+        this.translationService = translationService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Current bundle of a locale.
+     *
+     * @param locale Supported locale
+     * @return The bundle
+     * @throws org.codeacademy.baltaragisapi.exception.ValidationException if the locale is not supported
+     */
+    public Bundle get(String locale) {
+        return get(locale, locale, () -> translationService.getPublicTranslations(locale));
+    }
+
+    /**
+     * Current bundle of one namespace of a locale.
+     *
+     * @param locale Supported locale
+     * @param namespace Public namespace
+     * @return The bundle
+     * @throws org.codeacademy.baltaragisapi.exception.NotFoundException if the namespace is unknown or server-only
+     */
+    public Bundle get(String locale, String namespace) {
+        return get(locale, locale + "/" + namespace, () -> translationService.getNamespaceTranslations(locale, namespace));
+    }
+
+    private Bundle get(String locale, String path, Supplier<Map<String, String>> translations) {
+        long version = translationService.getTranslationsVersion(locale);
+        Bundle bundle = bundles.get(path);
+        if (bundle != null && bundle.version() >= version) {
+            return bundle;
+        }
+        return bundles.compute(path, (key, existing) ->
+                existing != null && existing.version() >= version ? existing : build(locale, key, version, translations));
+    }
+
+    private Bundle build(String locale, String path, long version, Supplier<Map<String, String>> translations) {
+        // Read before the content, so a change landing in between makes the sync version older, not newer
+        long syncVersion = translationService.getTranslationsSyncVersion(locale);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(translations.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize translations", e);
+        }
+        return new Bundle(path, version, syncVersion, hash(json), json, ResponseBodyCache.gzip(json));
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Serialized translations of one locale.
+     *
+     * @param path Locale, or locale and namespace ({@code en-US/nav})
+     * @param version Translation version the bundle was built from
+     * @param syncVersion Version to pass as {@code since} for deltas on top of this bundle
+     * @param hash Hex prefix of the SHA-256 of the JSON
+     * @param json JSON bytes
+     * @param gzip Gzipped JSON bytes
+     */
+    public record Bundle(String path, long version, long syncVersion, String hash, byte[] json, byte[] gzip) {
+
+        public static final String SYNC_VERSION_HEADER = "X-Translations-Version";
+
+        /**
+         * Strong ETag of one representation: {@code "{hash}"} for the JSON, {@code "{hash}-gz"} for the gzip.
+         */
+        public String etag(boolean gzipped) {
+            String etag = "\"" + hash + "\"";
+            return gzipped ? ResponseBodyCache.gzipETag(etag) : etag;
+        }
+
+        /**
+         * Whether an If-None-Match header names either representation of this bundle (weakly compared).
+         */
+        public boolean matches(String ifNoneMatch) {
+            return ResponseBodyCache.matchingETag(etag(false), ifNoneMatch) != null;
+        }
+
+        /**
+         * Path of the immutable URL variant below {@code /i18n/}, e.g. {@code en-US.3f2a9c1b0d4e5f67.json}.
+         */
+        public String fileName() {
+            return path + "." + hash + ".json";
+        }
+
+        /**
+         * The bundle as a response, gzipped when the client accepts it, or 304 when If-None-Match names
+         * either representation (a cache may revalidate with the tag of the other encoding).
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding, String ifNoneMatch, CacheControl cacheControl) {
+            boolean gzipped = ResponseBodyCache.acceptsGzip(acceptEncoding);
+            boolean notModified = matches(ifNoneMatch);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                    .eTag(etag(gzipped))
+                    .cacheControl(cacheControl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .header(SYNC_VERSION_HEADER, Long.toString(syncVersion));
+            if (notModified) {
+                return builder.build();
+            }
+            if (gzipped) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return builder.body(gzipped ? gzip : json);
+        }
+    }
+}
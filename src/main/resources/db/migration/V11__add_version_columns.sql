@@ -0,0 +1,4 @@
+-- Optimistic-lock versions, also used as ETag validators on public GETs
+ALTER TABLE product ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE page ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE artist_profile ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
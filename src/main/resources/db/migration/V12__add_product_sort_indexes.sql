@@ -0,0 +1,5 @@
+-- Composite indexes for the public listing sorts: the published filter, the sort key, then id as
+-- tie-breaker, so each sort (and each keyset seek) is an index range scan rather than a filesort
+CREATE INDEX idx_product_published_created ON product(is_published, created_at, id);
+CREATE INDEX idx_product_published_price ON product(is_published, price_cents, id);
+CREATE INDEX idx_product_published_name ON product(is_published, name, id);
@@ -0,0 +1,16 @@
+-- Deleted translation keys, kept so delta sync (GET /i18n/{locale}?since=) can report removals.
+-- A key that is written again loses its tombstone.
+CREATE TABLE translation_tombstone (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    translation_key VARCHAR(255) NOT NULL,
+    locale VARCHAR(10) NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE translation_tombstone
+    ADD CONSTRAINT ux_translation_tombstone_key_locale UNIQUE (translation_key, locale);
+
+CREATE INDEX idx_translation_tombstone_locale_deleted ON translation_tombstone (locale, deleted_at);
+
+-- Delta reads scan one locale's rows changed since a point in time
+CREATE INDEX idx_translation_locale_updated ON translation (locale, updated_at);
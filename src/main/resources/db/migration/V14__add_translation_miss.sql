@@ -0,0 +1,15 @@
+-- Lookups of translation keys that did not exist, aggregated per (locale, key) and flushed
+-- periodically from in-memory counters
+CREATE TABLE translation_miss (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    translation_key VARCHAR(255) NOT NULL,
+    locale VARCHAR(10) NOT NULL,
+    miss_count BIGINT NOT NULL,
+    first_seen_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_seen_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE translation_miss
+    ADD CONSTRAINT ux_translation_miss_key_locale UNIQUE (translation_key, locale);
+
+CREATE INDEX idx_translation_miss_count ON translation_miss (miss_count);
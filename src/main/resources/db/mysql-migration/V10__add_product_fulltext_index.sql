@@ -0,0 +1,2 @@
+-- MySQL-only: FULLTEXT index backing MATCH ... AGAINST product search (app.search.engine=database)
+CREATE FULLTEXT INDEX ft_product_text ON product (name, short_desc, long_desc);
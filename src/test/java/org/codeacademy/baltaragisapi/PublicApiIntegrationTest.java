@@ -1,6 +1,7 @@
 package org.codeacademy.baltaragisapi;
 
 import org.codeacademy.baltaragisapi.dto.*;
+import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationResponse;
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.entity.ProductPhoto;
 import org.codeacademy.baltaragisapi.enums.OrderStatus;
@@ -12,6 +13,8 @@ import org.codeacademy.baltaragisapi.repository.StockWaitlistRepository;
 import org.codeacademy.baltaragisapi.repository.PageRepository;
 import org.codeacademy.baltaragisapi.repository.ArtistProfileRepository;
 import org.codeacademy.baltaragisapi.repository.OrderItemRepository;
+import org.codeacademy.baltaragisapi.service.TranslationService;
+import org.codeacademy.baltaragisapi.service.TranslationTransferService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Order;
@@ -22,15 +25,24 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -65,6 +77,12 @@ class PublicApiIntegrationTest {
     @Autowired
     private OrderItemRepository orderItemRepository;
 
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationTransferService translationTransferService;
+
     private String baseUrl;
 
     @BeforeEach
@@ -107,6 +125,62 @@ class PublicApiIntegrationTest {
         });
     }
 
+    @Test
+    @Order(1)
+    void testListPublishedProducts_ThumbnailIsFirstPhoto() {
+        // When: Request a page large enough to hold the whole seeded catalog
+        ResponseEntity<Map> response = restTemplate.exchange(
+            baseUrl + "/products?page=0&size=50",
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<Map>() {}
+        );
+
+        // Then: Each card carries the URL of its lowest sort-order photo
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> products = (List<Map<String, Object>>) response.getBody().get("content");
+        Map<String, Object> sunset = products.stream()
+            .filter(product -> "sunset-print".equals(product.get("slug")))
+            .findFirst()
+            .orElseThrow();
+        assertThat(sunset.get("thumbnailUrl")).isEqualTo("https://example.com/photos/sunset1.jpg");
+    }
+
+    @Test
+    @Order(1)
+    void testListProductsByCursor_WalksWholeCatalogWithoutDuplicates() {
+        // Given: Total published count from offset paging
+        ResponseEntity<Map> offsetResponse = restTemplate.getForEntity(baseUrl + "/products?page=0&size=50", Map.class);
+        int totalElements = (Integer) offsetResponse.getBody().get("totalElements");
+
+        // When: Follow cursors slice by slice
+        List<Object> seenIds = new ArrayList<>();
+        String cursor = "";
+        int slices = 0;
+        do {
+            ResponseEntity<Map> response = restTemplate.getForEntity(
+                baseUrl + "/products?size=4&after=" + cursor, Map.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).doesNotContainKey("totalElements");
+            List<Map<String, Object>> content = (List<Map<String, Object>>) response.getBody().get("content");
+            content.forEach(product -> seenIds.add(product.get("id")));
+            cursor = (String) response.getBody().get("nextCursor");
+            slices++;
+        } while (cursor != null && slices < 20);
+
+        // Then: Every published product is seen exactly once
+        assertThat(seenIds).hasSize(totalElements).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @Order(1)
+    void testListProductsByCursor_MalformedCursor_Returns400() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/products?after=not-a-cursor", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().get("code")).isEqualTo("VALIDATION_FAILED");
+    }
+
     @Test
     @Order(2)
     void testGetProductBySlug_ExistingProduct_Returns200() {
@@ -147,6 +221,39 @@ class PublicApiIntegrationTest {
         assertThat(response.getBody().get("title")).isEqualTo("Not Found");
     }
 
+    @Test
+    @Order(1)
+    void testListProducts_MatchingEpochETag_Returns304() {
+        ResponseEntity<String> first = restTemplate.getForEntity(baseUrl + "/products?q=print", String.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).startsWith("W/");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> revalidated = restTemplate.exchange(
+            baseUrl + "/products?q=print", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getBody()).isNull();
+    }
+
+    @Test
+    @Order(3)
+    void testGetProductBySlug_MatchingETag_Returns304() {
+        ResponseEntity<ProductDetailDto> first = restTemplate.getForEntity(baseUrl + "/products/sunset-print", ProductDetailDto.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> revalidated = restTemplate.exchange(
+            baseUrl + "/products/sunset-print", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(revalidated.getBody()).isNull();
+    }
+
     @Test
     @Order(4)
     void testCreateOrder_WithEnoughStock_StockDecreases() {
@@ -154,6 +261,9 @@ class PublicApiIntegrationTest {
         Product product = productRepository.findBySlug("sunset-print").orElseThrow();
         int initialStock = product.getQuantity();
         assertThat(initialStock).isGreaterThan(0);
+        String listingETagBefore = restTemplate.getForEntity(baseUrl + "/products", String.class).getHeaders().getETag();
+        String etagBefore = restTemplate.getForEntity(baseUrl + "/products/" + product.getSlug(), ProductDetailDto.class)
+            .getHeaders().getETag();
         
         CreateOrderRequest request = new CreateOrderRequest(
             null, // productId
@@ -178,6 +288,18 @@ class PublicApiIntegrationTest {
         // And: Stock is decreased
         Product updatedProduct = productRepository.findById(product.getId()).orElseThrow();
         assertThat(updatedProduct.getQuantity()).isEqualTo(initialStock - 1);
+
+        // And: Public product detail reflects the new stock
+        ResponseEntity<ProductDetailDto> detail = restTemplate.getForEntity(
+            baseUrl + "/products/" + product.getSlug(),
+            ProductDetailDto.class
+        );
+        assertThat(detail.getBody().getQuantity()).isEqualTo(initialStock - 1);
+        assertThat(detail.getHeaders().getETag()).isNotEqualTo(etagBefore);
+
+        // And: The catalog epoch moved, so listings revalidate
+        assertThat(restTemplate.getForEntity(baseUrl + "/products", String.class).getHeaders().getETag())
+            .isNotEqualTo(listingETagBefore);
         
         // And: Order exists in database
         assertThat(orderRepository.findById(response.getBody().getOrderId())).isPresent();
@@ -308,6 +430,46 @@ class PublicApiIntegrationTest {
         assertThat(response.getBody().getContentMd()).isNotNull();
     }
 
+    @Test
+    @Order(8)
+    void testGetPageBySlug_MatchingETag_Returns304() {
+        String etag = restTemplate.getForEntity(baseUrl + "/pages/home", PageDto.class).getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> revalidated = restTemplate.exchange(
+            baseUrl + "/pages/home", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @Order(9)
+    void testGetArtist_MatchingETag_Returns304() {
+        String etag = restTemplate.getForEntity(baseUrl + "/artist", ArtistDto.class).getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> revalidated = restTemplate.exchange(
+            baseUrl + "/artist", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @Order(8)
+    void testGetPageBySlug_UnknownSlug_Returns404() {
+        // When: Request page by unknown slug
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+            baseUrl + "/pages/non-existent-page",
+            Map.class
+        );
+
+        // Then: 404 is returned
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().get("code")).isEqualTo("NOT_FOUND");
+    }
+
     @Test
     @Order(9)
     void testGetArtist_ReturnsArtistProfile() {
@@ -323,4 +485,276 @@ class PublicApiIntegrationTest {
         assertThat(response.getBody().getName()).isNotNull();
         assertThat(response.getBody().getBio()).isNotNull();
     }
+
+    @Test
+    @Order(1)
+    void testListProducts_PriceBandFilter_OnlyMatchingBand() {
+        ResponseEntity<Map> response = restTemplate.exchange(
+            baseUrl + "/products?page=0&size=50&price=25-50",
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<Map>() {}
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> products = (List<Map<String, Object>>) response.getBody().get("content");
+        assertThat(products).isNotEmpty();
+        products.forEach(product -> assertThat(new BigDecimal((String) product.get("price")))
+            .isGreaterThanOrEqualTo(new BigDecimal("25.00"))
+            .isLessThan(new BigDecimal("50.00")));
+    }
+
+    @Test
+    @Order(1)
+    void testListProducts_UnknownPriceBand_Returns400() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/products?price=10-20", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(1)
+    void testProductFacets_CountsMatchListing() {
+        ResponseEntity<Map> facets = restTemplate.getForEntity(baseUrl + "/products/facets?price=25-50", Map.class);
+        ResponseEntity<Map> listing = restTemplate.getForEntity(baseUrl + "/products?page=0&size=1&price=25-50", Map.class);
+
+        assertThat(facets.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(facets.getHeaders().getETag()).startsWith("W/");
+        Map<String, Object> body = facets.getBody();
+        assertThat(((Number) body.get("total")).longValue())
+            .isEqualTo(((Number) listing.getBody().get("totalElements")).longValue());
+
+        // The price facet ignores its own filter, so the other bands keep their counts
+        Map<String, Number> priceBands = (Map<String, Number>) body.get("priceBands");
+        assertThat(priceBands).containsOnlyKeys("0-25", "25-50", "50-100", "100+");
+        assertThat(priceBands.get("25-50").longValue()).isEqualTo(((Number) body.get("total")).longValue());
+        assertThat(priceBands.get("50-100").longValue()).isPositive();
+
+        Map<String, Number> availability = (Map<String, Number>) body.get("availability");
+        assertThat(availability.get("inStock").longValue() + availability.get("outOfStock").longValue())
+            .isEqualTo(((Number) body.get("total")).longValue());
+    }
+
+    @Test
+    @Order(1)
+    void testListProducts_SortByPriceAsc() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/products?page=0&size=50&sort=price_asc", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> products = (List<Map<String, Object>>) response.getBody().get("content");
+        List<BigDecimal> prices = products.stream().map(product -> new BigDecimal((String) product.get("price"))).toList();
+        assertThat(prices).isNotEmpty().isSorted();
+    }
+
+    @Test
+    @Order(1)
+    void testListProductsByCursor_SortByPriceDesc_WalksWholeCatalog() {
+        ResponseEntity<Map> all = restTemplate.getForEntity(baseUrl + "/products?page=0&size=50", Map.class);
+        long total = ((Number) all.getBody().get("totalElements")).longValue();
+
+        List<BigDecimal> prices = new ArrayList<>();
+        Set<String> slugs = new HashSet<>();
+        String after = "";
+        do {
+            ResponseEntity<Map> slice = restTemplate.getForEntity(
+                baseUrl + "/products?size=2&sort=price_desc&after=" + after, Map.class);
+            assertThat(slice.getStatusCode()).isEqualTo(HttpStatus.OK);
+            for (Map<String, Object> product : (List<Map<String, Object>>) slice.getBody().get("content")) {
+                prices.add(new BigDecimal((String) product.get("price")));
+                assertThat(slugs.add((String) product.get("slug"))).isTrue();
+            }
+            after = (String) slice.getBody().get("nextCursor");
+        } while (after != null);
+
+        assertThat(prices).hasSize((int) total).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @Order(1)
+    void testListProductsByCursor_CursorFromOtherSort_Returns400() {
+        ResponseEntity<Map> first = restTemplate.getForEntity(baseUrl + "/products?size=1&sort=name&after=", Map.class);
+        String cursor = (String) first.getBody().get("nextCursor");
+
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+            baseUrl + "/products?size=1&sort=newest&after=" + cursor, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(1)
+    void testSuggestProducts_PrefixOfLaterWord() {
+        ResponseEntity<List> response = restTemplate.getForEntity(baseUrl + "/products/suggest?q=WAL", List.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).startsWith("W/");
+        List<Map<String, Object>> suggestions = response.getBody();
+        assertThat(suggestions).extracting(suggestion -> suggestion.get("slug")).contains("leather-wallet");
+    }
+
+    @Test
+    @Order(1)
+    void testSuggestProducts_LimitOutOfRange_Returns400() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/products/suggest?q=a&limit=500", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(1)
+    void testListProducts_MisspelledQuery_FallsBackWithDidYouMean() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/products?q=walet", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Did-You-Mean")).isEqualTo("wallet");
+        List<Map<String, Object>> products = (List<Map<String, Object>>) response.getBody().get("content");
+        assertThat(products).extracting(product -> product.get("slug")).contains("leather-wallet");
+    }
+
+    @Test
+    @Order(1)
+    void testGetProductsBatch_ReturnsKnownSlugsInRequestOrder() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+            baseUrl + "/products/batch?slugs=leather-wallet,no-such-product,cardholder", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).startsWith("W/");
+        Map<String, Map<String, Object>> products = response.getBody();
+        assertThat(products.keySet()).containsExactly("leather-wallet", "cardholder");
+        assertThat(products.get("cardholder").get("name")).isEqualTo("Cardholder");
+    }
+
+    @Test
+    @Order(1)
+    void testGetProductsBatch_TooManySlugs_Returns400() {
+        String slugs = String.join(",", IntStream.range(0, 51).mapToObj(i -> "p" + i).toList());
+
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/products/batch?slugs=" + slugs, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @Order(1)
+    void testGetTranslations_MatchingETag_Returns304() {
+        ResponseEntity<String> first = restTemplate.getForEntity(baseUrl + "/i18n/en-US", String.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).matches("\"[0-9a-f]{16}\"");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> revalidated = restTemplate.exchange(
+            baseUrl + "/i18n/en-US", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @Order(1)
+    void testGetTranslationManifest_PointsAtImmutableBundles() {
+        ResponseEntity<Map> manifest = restTemplate.getForEntity(baseUrl + "/i18n/manifest", Map.class);
+        assertThat(manifest.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String url = (String) manifest.getBody().get("en-US");
+        assertThat(url).matches("/api/v1/i18n/en-US\\.[0-9a-f]{16}\\.json");
+
+        ResponseEntity<String> hashed = restTemplate.getForEntity(baseUrl.replace("/api/v1", "") + url, String.class);
+        ResponseEntity<String> plain = restTemplate.getForEntity(baseUrl + "/i18n/en-US", String.class);
+
+        assertThat(hashed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hashed.getHeaders().getCacheControl()).contains("immutable");
+        assertThat(hashed.getBody()).isEqualTo(plain.getBody());
+    }
+
+    @Test
+    @Order(1)
+    void testGetTranslationsSince_ReturnsChangesAfterBundleVersion() {
+        ResponseEntity<String> bundle = restTemplate.getForEntity(baseUrl + "/i18n/en-US", String.class);
+        String since = bundle.getHeaders().getFirst("X-Translations-Version");
+        assertThat(since).isNotNull();
+        // Held behind now by the sync overlap, so rows of slower transactions are served again
+        assertThat(Long.parseLong(since)).isLessThanOrEqualTo(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+
+        translationService.upsertTranslation("test.delta.changed", "en-US", "Changed");
+        translationService.upsertTranslation("test.delta.removed", "en-US", "Removed");
+        translationService.deleteTranslation("test.delta.removed", "en-US");
+
+        ResponseEntity<Map> delta = restTemplate.getForEntity(baseUrl + "/i18n/en-US?since=" + since, Map.class);
+
+        assertThat(delta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((Map<String, String>) delta.getBody().get("changed"))
+            .containsEntry("test.delta.changed", "Changed")
+            .doesNotContainKey("test.delta.removed");
+        assertThat((List<String>) delta.getBody().get("deleted")).contains("test.delta.removed");
+        assertThat(((Number) delta.getBody().get("version")).longValue()).isGreaterThanOrEqualTo(Long.parseLong(since));
+        translationService.deleteTranslation("test.delta.changed", "en-US");
+    }
+
+    @Test
+    @Order(1)
+    void testGetNamespaceTranslations_ReturnsOnlyThatNamespace() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(baseUrl + "/i18n/en-US/nav", Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat((Set<String>) response.getBody().keySet()).isNotEmpty().allMatch(key -> key.startsWith("nav."));
+    }
+
+    @Test
+    @Order(1)
+    void testGetTranslations_ServerOnlyNamespaceIsNotPublic() {
+        ResponseEntity<Map> bundle = restTemplate.getForEntity(baseUrl + "/i18n/en-US", Map.class);
+        ResponseEntity<String> namespace = restTemplate.getForEntity(baseUrl + "/i18n/en-US/email", String.class);
+
+        assertThat((Set<String>) bundle.getBody().keySet()).isNotEmpty().noneMatch(key -> key.startsWith("email."));
+        assertThat(namespace.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Order(1)
+    void testBulkUpsertTranslations_BatchesAndCounts() {
+        BulkTranslationResponse first = translationService.bulkUpsertTranslations(Map.of("en-US", Map.of(
+            "test.bulk.one", "One", "test.bulk.two", "Two")));
+        BulkTranslationResponse second = translationService.bulkUpsertTranslations(Map.of("en-US", Map.of(
+            "test.bulk.one", "One", "test.bulk.two", "Two, again")));
+
+        assertThat(first.getCreated()).isEqualTo(2);
+        assertThat(second.getUnchanged()).isEqualTo(1);
+        assertThat(second.getUpdated()).isEqualTo(1);
+        assertThat(translationService.getTranslation("test.bulk.two", "en-US")).isEqualTo("Two, again");
+        translationService.deleteTranslation("test.bulk.one", "en-US");
+        translationService.deleteTranslation("test.bulk.two", "en-US");
+    }
+
+    @Test
+    @Order(1)
+    void testTranslationCsv_ExportAndReimportRoundTrip() throws Exception {
+        StringWriter export = new StringWriter();
+        translationTransferService.exportCsv("en-US", export);
+
+        assertThat(export.toString()).startsWith("locale,key,value\r\n").contains("en-US,common.loading,Loading...");
+
+        BulkTranslationResponse reimport = translationTransferService.importCsv(new StringReader(export.toString()));
+
+        assertThat(reimport.getCreated()).isZero();
+        assertThat(reimport.getUpdated()).isZero();
+        assertThat(reimport.getUnchanged()).isEqualTo(export.toString().split("\r\n").length - 1);
+    }
+
+    @Test
+    @Order(1)
+    void testMissingTranslations_CountedUntilCreated() {
+        translationService.getTranslation("test.missing.key", "en-US");
+        translationService.getTranslation("test.missing.key", "en-US");
+
+        assertThat(translationService.getMissingTranslations(50))
+            .filteredOn(miss -> miss.getKey().equals("test.missing.key"))
+            .singleElement()
+            .satisfies(miss -> assertThat(miss.getCount()).isEqualTo(2));
+
+        translationService.upsertTranslation("test.missing.key", "en-US", "Found");
+
+        assertThat(translationService.getMissingTranslations(50))
+            .noneMatch(miss -> miss.getKey().equals("test.missing.key"));
+        translationService.deleteTranslation("test.missing.key", "en-US");
+    }
 }
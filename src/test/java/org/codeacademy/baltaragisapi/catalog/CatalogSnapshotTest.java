@@ -0,0 +1,76 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import org.codeacademy.baltaragisapi.dto.PageDto;
+import org.codeacademy.baltaragisapi.dto.ProductCardDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for CatalogSnapshot.
+ */
+class CatalogSnapshotTest {
+
+    private final CatalogSnapshot snapshot = CatalogSnapshot.of(
+            List.of(card(2L, "forest-sketch"), card(1L, "sunset-print")),
+            List.of(new PageDto("Home", "home", "# Welcome", OffsetDateTime.now(), 1L, 0L))
+    );
+
+    @Test
+    void testCards_OrderedById() {
+        assertEquals(List.of(1L, 2L), ids(snapshot.cards()));
+    }
+
+    @Test
+    void testCards_FollowRequestedOrderAndSkipUnknown() {
+        assertEquals(List.of(2L, 1L), ids(snapshot.cards(List.of(2L, 99L, 1L))));
+    }
+
+    @Test
+    void testWithProduct_ReplacesCard() {
+        CatalogSnapshot next = snapshot.withProduct(card(1L, "sunrise-print"));
+
+        assertEquals("sunrise-print", next.cards().get(0).getSlug());
+        assertEquals(2, next.cards().size());
+        assertEquals(snapshot.generation() + 1, next.generation());
+        assertEquals("sunset-print", snapshot.cards().get(0).getSlug());
+    }
+
+    @Test
+    void testWithProduct_AddsCardInIdOrder() {
+        CatalogSnapshot next = snapshot.withProduct(card(0L, "harbour-sketch"));
+
+        assertEquals(List.of(0L, 1L, 2L), ids(next.cards()));
+    }
+
+    @Test
+    void testWithoutProduct_RemovesCard() {
+        CatalogSnapshot next = snapshot.withoutProduct(2L);
+
+        assertEquals(List.of(1L), ids(next.cards()));
+    }
+
+    @Test
+    void testWithoutProduct_UnknownIdKeepsSnapshot() {
+        assertSame(snapshot, snapshot.withoutProduct(99L));
+    }
+
+    @Test
+    void testWithPages_ReplacesPages() {
+        CatalogSnapshot next = snapshot.withPages(List.of());
+
+        assertNull(next.page("home"));
+        assertNotNull(snapshot.page("home"));
+    }
+
+    private static List<Long> ids(List<ProductCardDto> cards) {
+        return cards.stream().map(ProductCardDto::getId).toList();
+    }
+
+    private static ProductCardDto card(Long id, String slug) {
+        return ProductCardDto.builder().id(id).slug(slug).name(slug).price("10.00").currency("EUR").build();
+    }
+}
@@ -0,0 +1,95 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import org.codeacademy.baltaragisapi.config.CachingConfig;
+import org.codeacademy.baltaragisapi.dto.ProductDetailDto;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ProductDetailCache.
+ */
+class ProductDetailCacheTest {
+
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductDetailCache(new CaffeineCacheManager(CachingConfig.PRODUCT_DETAILS));
+
+        cache.get("sunset-print", () -> detail(1L, "sunset-print"));
+        cache.get("forest-sketch", () -> detail(2L, "forest-sketch"));
+    }
+
+    @Test
+    void testGet_LoadsOnceThenHits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("sunset-print", () -> {
+            loads.incrementAndGet();
+            return detail(1L, "sunset-print");
+        });
+
+        assertEquals(0, loads.get());
+        assertNotNull(cache.getIfPresent("sunset-print"));
+    }
+
+    @Test
+    void testOnProductChanged_EvictsOnlyChangedProduct() {
+        cache.onProductChanged(new ProductChangedEvent(1L));
+
+        assertNull(cache.getIfPresent("sunset-print"));
+        assertNotNull(cache.getIfPresent("forest-sketch"));
+    }
+
+    @Test
+    void testOnProductChanged_UncachedProduct() {
+        cache.onProductChanged(new ProductChangedEvent(99L));
+
+        assertNotNull(cache.getIfPresent("sunset-print"));
+        assertNotNull(cache.getIfPresent("forest-sketch"));
+    }
+
+    @Test
+    void testGet_LoadOverlappingEvictionIsNotKept() {
+        // A checkout commits and evicts while the detail is being read
+        ProductDetailDto detail = cache.get("dawn-print", () -> {
+            cache.onProductChanged(new ProductChangedEvent(3L));
+            return detail(3L, "dawn-print");
+        });
+
+        assertEquals("dawn-print", detail.getSlug());
+        assertNull(cache.getIfPresent("dawn-print"));
+    }
+
+    @Test
+    void testPut_StaleGenerationIsNotKept() {
+        long generation = cache.generation();
+        cache.onProductChanged(new ProductChangedEvent(3L));
+
+        cache.put(detail(3L, "dawn-print"), generation);
+
+        assertNull(cache.getIfPresent("dawn-print"));
+        cache.put(detail(3L, "dawn-print"), cache.generation());
+        assertNotNull(cache.getIfPresent("dawn-print"));
+    }
+
+    @Test
+    void testGet_LoaderExceptionPassesThrough() {
+        assertThrows(NotFoundException.class, () -> cache.get("missing", () -> {
+            throw new NotFoundException("Product not found");
+        }));
+        assertNull(cache.getIfPresent("missing"));
+    }
+
+    private static ProductDetailDto detail(Long id, String slug) {
+        return ProductDetailDto.builder().id(id).slug(slug).name(slug).price("10.00").currency("EUR").photos(List.of()).build();
+    }
+}
@@ -0,0 +1,103 @@
+package org.codeacademy.baltaragisapi.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for ProductSlugFilter and BloomFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSlugFilterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogProperties catalogProperties;
+    private ProductSlugFilter slugFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogProperties = new CatalogProperties();
+        slugFilter = new ProductSlugFilter(productRepository, catalogProperties, meterRegistry);
+    }
+
+    @Test
+    void testMightExist_BeforeBuild_LetsEverythingThrough() {
+        assertTrue(slugFilter.mightExist("anything"));
+    }
+
+    @Test
+    void testMightExist_KnownAndUnknownSlugs() {
+        when(productRepository.findAllSlugs()).thenReturn(List.of("sunset-print", "forest-sketch"));
+        slugFilter.rebuild();
+
+        assertTrue(slugFilter.mightExist("sunset-print"));
+        assertFalse(slugFilter.mightExist("wp-login.php"));
+        assertEquals(1, meterRegistry.get("catalog.slug.filter.probes").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testMightExist_SeveralNodes_NeverAnswersMissing() {
+        catalogProperties.setSingleNode(false);
+
+        slugFilter.rebuild();
+        slugFilter.onProductChanged(new ProductChangedEvent(2L));
+
+        // Another node may have created it; only the database can tell
+        assertTrue(slugFilter.mightExist("created-on-another-node"));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testOnProductChanged_AddsNewSlug() {
+        when(productRepository.findAllSlugs()).thenReturn(List.of("sunset-print"));
+        slugFilter.rebuild();
+        Product product = new Product();
+        product.setId(2L);
+        product.setSlug("new-print");
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product));
+
+        slugFilter.onProductChanged(new ProductChangedEvent(2L));
+
+        assertTrue(slugFilter.mightExist("new-print"));
+    }
+
+    @Test
+    void testOnProductChanged_DeletedProductRebuilds() {
+        when(productRepository.findAllSlugs()).thenReturn(List.of("sunset-print"), List.of());
+        slugFilter.rebuild();
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        slugFilter.onProductChanged(new ProductChangedEvent(1L));
+
+        assertFalse(slugFilter.mightExist("sunset-print"));
+    }
+
+    @Test
+    void testBloomFilter_FalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("product-" + i));
+
+        IntStream.range(0, 1000).forEach(i -> assertTrue(filter.mightContain("product-" + i)));
+        long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain("probe-" + i)).count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        assertTrue(filter.falsePositiveRate() < 0.03);
+    }
+}
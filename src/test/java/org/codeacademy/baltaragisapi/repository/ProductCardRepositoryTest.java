@@ -0,0 +1,132 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.entity.ProductPhoto;
+import org.codeacademy.baltaragisapi.spec.ProductSpecifications;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that listing cards and thumbnails are read as projections: no {@code Product} entity is
+ * hydrated and no TEXT column is selected.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.codeacademy.baltaragisapi.repository.RecordingStatementInspector")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductCardRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductPhotoRepository productPhotoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        product = new Product();
+        product.setName("Projection Print");
+        product.setSlug("projection-print");
+        product.setShortDesc("Short text");
+        product.setLongDesc("Long text");
+        product.setPriceCents(4200);
+        product.setCurrency("EUR");
+        product.setQuantity(3);
+        product.setIsPublished(true);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        entityManager.persist(product);
+        entityManager.persist(photo("second.jpg", 2));
+        entityManager.persist(photo("first.jpg", 1));
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.SQL.clear();
+    }
+
+    @Test
+    void findCards_ReturnsCardColumnsWithoutEntities() {
+        Page<ProductCardRow> page = productRepository.findCards(
+                (root, query, cb) -> cb.equal(root.get("slug"), "projection-print"), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).hasSize(1);
+        ProductCardRow row = page.getContent().get(0);
+        assertThat(row.id()).isEqualTo(product.getId());
+        assertThat(row.name()).isEqualTo("Projection Print");
+        assertThat(row.slug()).isEqualTo("projection-print");
+        assertThat(row.priceCents()).isEqualTo(4200);
+        assertThat(row.currency()).isEqualTo("EUR");
+        assertThat(row.quantity()).isEqualTo(3);
+        assertThat(row.createdAt()).isNotNull();
+        assertNoEntitiesOrTextColumns();
+    }
+
+    @Test
+    void findCardsAfter_ReturnsCardColumnsWithoutEntities() {
+        List<ProductCardRow> rows = productRepository.findCardsAfter(
+                (root, query, cb) -> cb.equal(root.get("slug"), "projection-print"), ProductSort.NAME, null, 10);
+
+        assertThat(rows).extracting(ProductCardRow::slug).containsExactly("projection-print");
+        assertNoEntitiesOrTextColumns();
+    }
+
+    @Test
+    void findThumbnailsByProductIds_ReturnsLowestSortOrderPhoto() {
+        List<ProductThumbnail> thumbnails = productPhotoRepository.findThumbnailsByProductIds(List.of(product.getId()));
+
+        assertThat(thumbnails).hasSize(1);
+        assertThat(thumbnails.get(0).getProductId()).isEqualTo(product.getId());
+        assertThat(thumbnails.get(0).getUrl()).isEqualTo("first.jpg");
+        assertNoEntitiesOrTextColumns();
+    }
+
+    @Test
+    void countByCurrency_CountsBucketsInOneGroupedQuery() {
+        Specification<Product> spec = (root, query, cb) -> cb.equal(root.get("slug"), "projection-print");
+
+        Map<String, long[]> counts = productRepository.countByCurrency(spec, List.of(
+                ProductSpecifications.byInStock(true),
+                ProductSpecifications.byInStock(false),
+                ProductSpecifications.byPriceRange(4000, 5000)));
+
+        assertThat(counts).containsOnlyKeys("EUR");
+        assertThat(counts.get("EUR")).containsExactly(1L, 0L, 1L);
+        assertThat(RecordingStatementInspector.SQL).hasSize(1);
+        assertNoEntitiesOrTextColumns();
+    }
+
+    private void assertNoEntitiesOrTextColumns() {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+        assertThat(RecordingStatementInspector.SQL).isNotEmpty()
+                .allSatisfy(sql -> assertThat(sql.toLowerCase()).doesNotContain("short_desc", "long_desc"));
+    }
+
+    private ProductPhoto photo(String url, int sortOrder) {
+        ProductPhoto photo = new ProductPhoto();
+        photo.setProduct(product);
+        photo.setUrl(url);
+        photo.setSortOrder(sortOrder);
+        return photo;
+    }
+}
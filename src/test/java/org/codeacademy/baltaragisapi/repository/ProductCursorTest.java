@@ -0,0 +1,47 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ProductCursor and ProductSort.
+ */
+class ProductCursorTest {
+
+    @Test
+    void testEncodeDecode_IdOrder() {
+        ProductCursor decoded = ProductCursor.decode(new ProductCursor(42L).encode());
+
+        assertNull(decoded.sort());
+        assertEquals(42L, decoded.lastId());
+    }
+
+    @Test
+    void testEncodeDecode_SortedKeepsKeyWithColons() {
+        ProductCardRow row = new ProductCardRow(7L, "Print: Sunset", "sunset", 4500, "EUR", 1, OffsetDateTime.now());
+
+        ProductCursor decoded = ProductCursor.decode(ProductCursor.after(ProductSort.NAME, row).encode());
+
+        assertEquals(ProductSort.NAME, decoded.sort());
+        assertEquals("Print: Sunset", decoded.key());
+        assertEquals(7L, decoded.lastId());
+    }
+
+    @Test
+    void testDecode_MalformedKey_ThrowsValidationException() {
+        ProductCursor bogus = new ProductCursor(ProductSort.NEWEST, "yesterday", 1L);
+
+        assertThrows(ValidationException.class, () -> ProductCursor.decode(bogus.encode()));
+    }
+
+    @Test
+    void testFromParam() {
+        assertEquals(ProductSort.PRICE_DESC, ProductSort.fromParam("price_desc"));
+        assertNull(ProductSort.fromParam(" "));
+        assertThrows(ValidationException.class, () -> ProductSort.fromParam("popularity"));
+    }
+}
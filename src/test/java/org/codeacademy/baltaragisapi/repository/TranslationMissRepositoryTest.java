@@ -0,0 +1,63 @@
+package org.codeacademy.baltaragisapi.repository;
+
+import org.codeacademy.baltaragisapi.entity.Translation;
+import org.codeacademy.baltaragisapi.entity.TranslationMiss;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that keys created since they were missed do not take the top slots of the miss report.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TranslationMissRepositoryTest {
+
+    @Autowired
+    private TranslationMissRepository missRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void testFindUnresolved_SkipsKeysThatExistNow() {
+        // The in-memory database is shared with other test classes; rolled back after the test
+        missRepository.deleteAllInBatch();
+        entityManager.persist(miss("en-US", "test.miss.resolved", 10));
+        entityManager.persist(miss("en-US", "test.miss.open", 2));
+        entityManager.persist(miss("lt-LT", "test.miss.resolved", 1));
+        Translation translation = new Translation();
+        translation.setKey("test.miss.resolved");
+        translation.setLocale("en-US");
+        translation.setValue("Resolved");
+        entityManager.persist(translation);
+        entityManager.flush();
+
+        assertThat(missRepository.findUnresolved(PageRequest.of(0, 1)))
+                .extracting(TranslationMiss::getKey)
+                .containsExactly("test.miss.open");
+        assertThat(missRepository.findUnresolved(PageRequest.of(0, 2)))
+                .extracting(miss -> miss.getLocale() + " " + miss.getKey())
+                .containsExactly("en-US test.miss.open", "lt-LT test.miss.resolved");
+    }
+
+    private static TranslationMiss miss(String locale, String key, long count) {
+        OffsetDateTime now = OffsetDateTime.now();
+        TranslationMiss miss = new TranslationMiss();
+        miss.setLocale(locale);
+        miss.setKey(key);
+        miss.setMissCount(count);
+        miss.setFirstSeenAt(now);
+        miss.setLastSeenAt(now);
+        return miss;
+    }
+}
@@ -0,0 +1,115 @@
+package org.codeacademy.baltaragisapi.search;
+
+import org.codeacademy.baltaragisapi.config.SearchProperties;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for ProductSearchIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ProductSearchIndex(productRepository, new SearchProperties());
+        when(productRepository.findByIsPublishedTrue()).thenReturn(List.of(
+                createProduct(1L, "Sunset Print", "Warm evening colours", "Printed on cotton paper"),
+                createProduct(2L, "Ąžuolas", "Oak tree study", "A sunset behind an oak"),
+                createProduct(3L, "Harbour Sketch", "Ink sketch", "Boats at dawn")
+        ));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void testRebuild_MarksIndexReady() {
+        assertTrue(searchIndex.isReady());
+    }
+
+    @Test
+    void testSearch_FoldsDiacritics() {
+        assertEquals(List.of(2L), searchIndex.search("azuolas"));
+        assertEquals(List.of(2L), searchIndex.search("ĄŽUOLAS"));
+    }
+
+    @Test
+    void testSearch_MatchesPrefix() {
+        assertEquals(List.of(3L), searchIndex.search("harb"));
+    }
+
+    @Test
+    void testSearch_RanksNameAboveDescription() {
+        assertEquals(List.of(1L, 2L), searchIndex.search("sunset"));
+    }
+
+    @Test
+    void testSearch_RequiresEveryToken() {
+        assertEquals(List.of(2L), searchIndex.search("sunset oak"));
+        assertTrue(searchIndex.search("sunset dawn").isEmpty());
+    }
+
+    @Test
+    void testSearch_BlankQuery() {
+        assertTrue(searchIndex.search("  ").isEmpty());
+    }
+
+    @Test
+    void testOnProductChanged_RemovesUnpublishedProduct() {
+        Product unpublished = createProduct(1L, "Sunset Print", "Warm evening colours", "Printed on cotton paper");
+        unpublished.setIsPublished(false);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(unpublished));
+
+        searchIndex.onProductChanged(new ProductChangedEvent(1L));
+
+        assertEquals(List.of(2L), searchIndex.search("sunset"));
+    }
+
+    @Test
+    void testOnProductChanged_ReindexesRenamedProduct() {
+        Product renamed = createProduct(3L, "Lighthouse", "Ink sketch", "Boats at dawn");
+        when(productRepository.findById(3L)).thenReturn(Optional.of(renamed));
+
+        searchIndex.onProductChanged(new ProductChangedEvent(3L));
+
+        assertTrue(searchIndex.search("harbour").isEmpty());
+        assertEquals(List.of(3L), searchIndex.search("lighthouse"));
+    }
+
+    @Test
+    void testOnProductChanged_RemovesDeletedProduct() {
+        when(productRepository.findById(3L)).thenReturn(Optional.empty());
+
+        searchIndex.onProductChanged(new ProductChangedEvent(3L));
+
+        assertTrue(searchIndex.search("sketch").isEmpty());
+    }
+
+    private Product createProduct(Long id, String name, String shortDesc, String longDesc) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setSlug("product-" + id);
+        product.setShortDesc(shortDesc);
+        product.setLongDesc(longDesc);
+        product.setPriceCents(1000);
+        product.setIsPublished(true);
+        return product;
+    }
+}
@@ -0,0 +1,138 @@
+package org.codeacademy.baltaragisapi.search;
+
+import org.codeacademy.baltaragisapi.dto.ProductSuggestionDto;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.OrderItemRepository;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.repository.ProductSales;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for ProductSuggester.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSuggesterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    private ProductSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new ProductSuggester(productRepository, orderItemRepository);
+        when(productRepository.findByIsPublishedTrue()).thenReturn(List.of(
+                createProduct(1L, "Sunset Print", "sunset-print"),
+                createProduct(2L, "Ąžuolas", "azuolas"),
+                createProduct(3L, "Sunflower Sketch", "sunflower-sketch")
+        ));
+        when(orderItemRepository.findUnitsSoldPerProduct()).thenReturn(List.of(sales(3L, 5L)));
+        suggester.rebuild();
+    }
+
+    @Test
+    void testSuggest_RanksByPopularity() {
+        assertEquals(List.of("sunflower-sketch", "sunset-print"), slugs(suggester.suggest("sun", 10)));
+    }
+
+    @Test
+    void testSuggest_MatchesLaterWordsAndFoldsDiacritics() {
+        assertEquals(List.of("sunset-print"), slugs(suggester.suggest("PRI", 10)));
+        assertEquals(List.of("azuolas"), slugs(suggester.suggest("ąžuo", 10)));
+    }
+
+    @Test
+    void testSuggest_RespectsLimit() {
+        assertEquals(List.of("sunflower-sketch"), slugs(suggester.suggest("s", 1)));
+    }
+
+    @Test
+    void testSuggest_BlankQuery_ReturnsEmpty() {
+        assertTrue(suggester.suggest("  ", 5).isEmpty());
+    }
+
+    @Test
+    void testOnProductChanged_UnpublishedProductIsRemoved() {
+        Product product = createProduct(3L, "Sunflower Sketch", "sunflower-sketch");
+        product.setIsPublished(false);
+        when(productRepository.findById(3L)).thenReturn(Optional.of(product));
+
+        suggester.onProductChanged(new ProductChangedEvent(3L));
+
+        assertEquals(List.of("sunset-print"), slugs(suggester.suggest("sun", 10)));
+    }
+
+    @Test
+    void testOnProductChanged_RefreshesPopularity() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Sunset Print", "sunset-print")));
+        when(orderItemRepository.countUnitsSold(1L)).thenReturn(9L);
+
+        suggester.onProductChanged(new ProductChangedEvent(1L));
+
+        assertEquals(List.of("sunset-print", "sunflower-sketch"), slugs(suggester.suggest("sun", 10)));
+    }
+
+    @Test
+    void testOnProductChanged_RenamedProductKeysAreReplaced() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Moonrise Print", "moonrise-print")));
+
+        suggester.onProductChanged(new ProductChangedEvent(1L));
+
+        assertEquals(List.of("sunflower-sketch"), slugs(suggester.suggest("sun", 10)));
+        assertEquals(List.of("moonrise-print"), slugs(suggester.suggest("moon", 10)));
+        assertEquals(List.of("moonrise-print"), slugs(suggester.suggest("print", 10)));
+    }
+
+    @Test
+    void testOnProductChanged_NewProductIsMergedIn() {
+        when(productRepository.findById(4L)).thenReturn(Optional.of(createProduct(4L, "Amber Sunrise", "amber-sunrise")));
+
+        suggester.onProductChanged(new ProductChangedEvent(4L));
+
+        assertEquals(List.of("sunflower-sketch", "amber-sunrise", "sunset-print"), slugs(suggester.suggest("sun", 10)));
+        assertEquals(List.of("amber-sunrise"), slugs(suggester.suggest("amb", 10)));
+        assertEquals(List.of("azuolas"), slugs(suggester.suggest("az", 10)));
+    }
+
+    private static List<String> slugs(List<ProductSuggestionDto> suggestions) {
+        return suggestions.stream().map(ProductSuggestionDto::getSlug).toList();
+    }
+
+    private static ProductSales sales(Long productId, Long units) {
+        return new ProductSales() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Long getUnits() {
+                return units;
+            }
+        };
+    }
+
+    private Product createProduct(Long id, String name, String slug) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setSlug(slug);
+        product.setPriceCents(1000);
+        product.setIsPublished(true);
+        return product;
+    }
+}
@@ -0,0 +1,135 @@
+package org.codeacademy.baltaragisapi.search;
+
+import org.codeacademy.baltaragisapi.config.SearchProperties;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for TrigramIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class TrigramIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private TrigramIndex trigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        trigramIndex = new TrigramIndex(productRepository, new SearchProperties());
+        when(productRepository.findByIsPublishedTrue()).thenReturn(List.of(
+                createProduct(1L, "Sunset Print", "Warm evening colours"),
+                createProduct(2L, "Lininė staltiesė", "Ąžuolo spalvos"),
+                createProduct(3L, "Harbour Sketch", "Ink sketch")
+        ));
+        trigramIndex.rebuild();
+    }
+
+    @Test
+    void testCorrect_ReplacesMisspelledWords() {
+        assertEquals("harbour sketch", trigramIndex.correct("harbor skech"));
+    }
+
+    @Test
+    void testCorrect_MatchesFoldedLithuanianWords() {
+        assertEquals("azuolo", trigramIndex.correct("azuola"));
+        assertEquals("linine", trigramIndex.correct("linyne"));
+    }
+
+    @Test
+    void testCorrect_KnownOrDissimilarWords_ReturnsNull() {
+        assertNull(trigramIndex.correct("sunset"));
+        assertNull(trigramIndex.correct("bicycle"));
+        assertNull(trigramIndex.correct(null));
+    }
+
+    @Test
+    void testOnProductChanged_RemovedProductLeavesVocabulary() {
+        Product product = createProduct(3L, "Harbour Sketch", "Ink sketch");
+        product.setIsPublished(false);
+        when(productRepository.findById(3L)).thenReturn(Optional.of(product));
+
+        trigramIndex.onProductChanged(new ProductChangedEvent(3L));
+
+        assertNull(trigramIndex.correct("harbor"));
+    }
+
+    @Test
+    void testOnProductChanged_RenamedProductSwapsWords() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "Moonrise Print", "Warm evening colours")));
+
+        trigramIndex.onProductChanged(new ProductChangedEvent(1L));
+
+        assertEquals("moonrise", trigramIndex.correct("monrise"));
+        assertNull(trigramIndex.correct("sunsett"));
+        assertEquals("evening", trigramIndex.correct("evenng"));
+    }
+
+    @Test
+    void testOnProductChanged_IncrementalMatchesRebuild() {
+        Random random = new Random(42);
+        String[] vocabulary = {"oak", "oaken", "linen", "linas", "print", "prints", "sketch", "sketches", "harbour",
+                "harbor", "sunset", "sunrise", "amber", "umber", "ink", "inky"};
+        Map<Long, Product> catalog = new HashMap<>();
+        for (int step = 0; step < 200; step++) {
+            long id = 1 + random.nextInt(12);
+            Product product = random.nextInt(4) == 0 ? null : createProduct(id,
+                    randomText(random, vocabulary), randomText(random, vocabulary));
+            if (product != null) {
+                catalog.put(id, product);
+            } else {
+                catalog.remove(id);
+            }
+            when(productRepository.findById(id)).thenReturn(Optional.ofNullable(product));
+            trigramIndex.onProductChanged(new ProductChangedEvent(id));
+        }
+
+        TrigramIndex rebuilt = new TrigramIndex(productRepository, new SearchProperties());
+        when(productRepository.findByIsPublishedTrue()).thenReturn(List.copyOf(catalog.values()));
+        rebuilt.rebuild();
+        for (String probe : List.of("oakn", "linnen", "lins", "prnt", "skech", "harbr", "sunse", "ambr", "inki", "umbr")) {
+            assertEquals(rebuilt.correct(probe), trigramIndex.correct(probe), probe);
+        }
+    }
+
+    @Test
+    void testTrigramsOf_PadsAndDeduplicates() {
+        assertEquals(4, TrigramIndex.trigramsOf("aaaa").length);
+        assertEquals(3, TrigramIndex.trigramsOf("ab").length);
+    }
+
+    private static String randomText(Random random, String[] vocabulary) {
+        StringBuilder text = new StringBuilder();
+        for (int i = random.nextInt(4); i >= 0; i--) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private Product createProduct(Long id, String name, String shortDesc) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setSlug("product-" + id);
+        product.setShortDesc(shortDesc);
+        product.setPriceCents(1000);
+        product.setIsPublished(true);
+        return product;
+    }
+}
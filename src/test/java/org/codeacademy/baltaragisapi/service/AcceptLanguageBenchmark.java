@@ -0,0 +1,79 @@
+package org.codeacademy.baltaragisapi.service;
+
+import org.codeacademy.baltaragisapi.config.I18nProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for Accept-Language negotiation: parsing every time versus the memoized path
+ * taken by {@link LocaleResolverService#resolveLocale()}, with a fresh request per call so the
+ * request-scoped result is never reused.
+ * <p>
+ * Not part of the test suite; run with
+ * {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java "-Dexec.args=-cp %classpath org.codeacademy.baltaragisapi.service.AcceptLanguageBenchmark"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AcceptLanguageBenchmark {
+
+    @Param({
+            "lt",
+            "en-US,en;q=0.9",
+            "de-DE,de;q=0.9,fr;q=0.8,en-GB;q=0.7,en;q=0.6,lt;q=0.5,*;q=0.1"
+    })
+    public String acceptLanguage;
+
+    private LocaleResolverService localeResolverService;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        localeResolverService = new LocaleResolverService(new I18nProperties());
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", acceptLanguage);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public String negotiateUncached() {
+        return localeResolverService.negotiate(acceptLanguage);
+    }
+
+    @Benchmark
+    public String resolveMemoized() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return localeResolverService.resolveLocale();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AcceptLanguageBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
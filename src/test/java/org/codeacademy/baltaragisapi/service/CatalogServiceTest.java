@@ -0,0 +1,136 @@
+package org.codeacademy.baltaragisapi.service;
+
+import org.codeacademy.baltaragisapi.catalog.CatalogSnapshot;
+import org.codeacademy.baltaragisapi.catalog.CatalogSnapshotHolder;
+import org.codeacademy.baltaragisapi.catalog.ProductDetailCache;
+import org.codeacademy.baltaragisapi.catalog.ProductSlugFilter;
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.config.SearchProperties;
+import org.codeacademy.baltaragisapi.dto.ProductCardDto;
+import org.codeacademy.baltaragisapi.dto.ProductFacetsDto;
+import org.codeacademy.baltaragisapi.mapper.ProductMapper;
+import org.codeacademy.baltaragisapi.repository.ProductCardRow;
+import org.codeacademy.baltaragisapi.repository.ProductPhotoRepository;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.search.FullTextSupport;
+import org.codeacademy.baltaragisapi.search.ProductSearchIndex;
+import org.codeacademy.baltaragisapi.search.ProductSuggester;
+import org.codeacademy.baltaragisapi.search.TrigramIndex;
+import org.codeacademy.baltaragisapi.spec.ProductFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductPhotoRepository photoRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private FullTextSupport fullTextSupport;
+
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshots;
+
+    @Mock
+    private ProductDetailCache detailCache;
+
+    @Mock
+    private ProductSuggester suggester;
+
+    @Mock
+    private TrigramIndex trigramIndex;
+
+    @Mock
+    private ProductSlugFilter slugFilter;
+
+    private SearchProperties searchProperties;
+    private CatalogProperties catalogProperties;
+    private CatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        searchProperties = new SearchProperties();
+        catalogProperties = new CatalogProperties();
+        catalogService = new CatalogService(productRepository, photoRepository, productMapper, searchIndex, fullTextSupport,
+                searchProperties, catalogProperties, catalogSnapshots, detailCache, suggester, trigramIndex, slugFilter);
+    }
+
+    @Test
+    void testGetCatalogEpoch_SingleNodeUsesSnapshotEpoch() {
+        searchProperties.setEngine(SearchProperties.Engine.DATABASE);
+        when(catalogSnapshots.epoch()).thenReturn("boot-7");
+
+        assertEquals("boot-7", catalogService.getCatalogEpoch());
+    }
+
+    @Test
+    void testGetCatalogEpoch_SeveralNodesHaveNoEpoch() {
+        catalogProperties.setSingleNode(false);
+
+        // Other nodes' changes never move this node's epoch
+        assertNull(catalogService.getCatalogEpoch());
+        verifyNoInteractions(catalogSnapshots);
+    }
+
+    @Test
+    void testListPublished_SeveralNodesReadFromRepository() {
+        catalogProperties.setSingleNode(false);
+        searchProperties.setEngine(SearchProperties.Engine.DATABASE);
+        // A snapshot built from this node's changes only; it must not answer
+        lenient().when(catalogSnapshots.current()).thenReturn(CatalogSnapshot.of(List.of(card(1L, "stale")), List.of()));
+        ProductCardRow row = new ProductCardRow(2L, "Fresh", "fresh", 1000, "EUR", 1, OffsetDateTime.now());
+        when(productRepository.findCards(any(), any())).thenReturn(new PageImpl<>(List.of(row)));
+        when(photoRepository.findThumbnailsByProductIds(List.of(2L))).thenReturn(List.of());
+        when(productMapper.toCard(row, null)).thenReturn(card(2L, "fresh"));
+
+        Page<ProductCardDto> page = catalogService.listPublished(null, ProductFilter.NONE, PageRequest.of(0, 12));
+
+        assertEquals(List.of("fresh"), page.map(ProductCardDto::getSlug).getContent());
+        verify(catalogSnapshots, never()).current();
+    }
+
+    @Test
+    void testGetFacets_WithoutSnapshotUsesOneAggregateQuery() {
+        // Per currency: (band, in stock) pairs for 0-25, 25-50, 50-100, 100+ and below every band
+        when(productRepository.countByCurrency(any(), anyList())).thenReturn(Map.of(
+                "EUR", new long[]{2, 1, 3, 0, 0, 0, 1, 0, 0, 0},
+                "USD", new long[]{0, 0, 4, 0, 0, 0, 0, 0, 0, 0}));
+
+        ProductFacetsDto facets = catalogService.getFacets(null, ProductFilter.of("25-50", true, "EUR"));
+
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of("0-25", 2L, "25-50", 3L, "50-100", 0L, "100+", 1L), facets.getPriceBands());
+        assertEquals(Map.of("inStock", 3L, "outOfStock", 0L), facets.getAvailability());
+        assertEquals(Map.of("EUR", 3L, "USD", 4L), facets.getCurrencies());
+        verify(productRepository, never()).findCards(any(), any());
+    }
+
+    private static ProductCardDto card(Long id, String slug) {
+        return ProductCardDto.builder().id(id).slug(slug).name(slug).price("10.00").currency("EUR").build();
+    }
+}
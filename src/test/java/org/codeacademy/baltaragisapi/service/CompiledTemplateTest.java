@@ -0,0 +1,41 @@
+package org.codeacademy.baltaragisapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledTemplateTest {
+
+    @Test
+    void render_SubstitutesSlotsInAnyOrder() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "Hi " + CompiledTemplate.slot(1) + ", " + CompiledTemplate.slot(0) + " and " + CompiledTemplate.slot(1) + ".");
+
+        assertEquals("Hi Ona, socks and Ona.", template.render("socks", "Ona"));
+    }
+
+    @Test
+    void render_WithoutSlotsReturnsText() {
+        assertEquals("Plain", CompiledTemplate.compile("Plain").render());
+        assertEquals("", CompiledTemplate.compile("").render());
+    }
+
+    @Test
+    void format_AppliesMessageFormatQuotingOnce() {
+        String text = CompiledTemplate.format("It''s '{here}': {0}", CompiledTemplate.slot(0));
+
+        // Braces and quotes in values are not interpreted at render time
+        assertEquals("It's {here}: {0} ''x''", CompiledTemplate.compile(text).render("{0} ''x''"));
+    }
+
+    @Test
+    void render_NullArgument() {
+        assertEquals("Name: null", CompiledTemplate.compile("Name: " + CompiledTemplate.slot(0)).render((String) null));
+    }
+
+    @Test
+    void slot_RejectsOutOfRangeIndex() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.slot(16));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.slot(-1));
+    }
+}
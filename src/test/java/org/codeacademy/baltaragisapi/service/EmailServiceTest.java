@@ -3,6 +3,7 @@ package org.codeacademy.baltaragisapi.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.SimpleMailMessage;
@@ -108,4 +109,53 @@ class EmailServiceTest {
         assertTrue(result);
         verify(mailSender).send(any(SimpleMailMessage.class));
     }
+
+    @Test
+    void testSendWaitlistNotification_RendersCompiledTemplatePerRecipient() {
+        // Given
+        stubWaitlistTranslations("lt-LT", "Prekė \"{0}\" vėl turima sandėlyje!");
+
+        // When
+        emailService.sendWaitlistNotification("a@example.com", "Vilnos kojinės", "vilnos-kojines", "lt-LT");
+        emailService.sendWaitlistNotification("b@example.com", "Medaus žvakė", "medaus-zvake", "lt-LT");
+
+        // Then: translations are read once, every recipient gets their own values
+        ArgumentCaptor<SimpleMailMessage> messages = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender, times(2)).send(messages.capture());
+        verify(translationService, times(1)).getTranslation("email.waitlist.greeting", "lt-LT");
+        assertEquals("Subject lt-LT", messages.getAllValues().get(1).getSubject());
+        assertEquals("Hello!\n\n"
+                + "Prekė \"Medaus žvakė\" vėl turima sandėlyje!\n\n"
+                + "Buy: http://localhost:8080/products/medaus-zvake\n\n"
+                + "Regards,\n"
+                + "Team", messages.getAllValues().get(1).getText());
+        assertTrue(messages.getAllValues().get(0).getText().contains("\"Vilnos kojinės\""));
+    }
+
+    @Test
+    void testSendWaitlistNotification_RecompilesAfterTranslationsChange() {
+        // Given
+        stubWaitlistTranslations("en-US", "Back: {0}");
+        emailService.sendWaitlistNotification("a@example.com", "Socks", "socks", "en-US");
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(2L);
+        when(translationService.getTranslation("email.waitlist.product_back_in_stock", "en-US")).thenReturn("It''s back: {0}");
+
+        // When
+        emailService.sendWaitlistNotification("a@example.com", "Socks", "socks", "en-US");
+
+        // Then
+        ArgumentCaptor<SimpleMailMessage> messages = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender, times(2)).send(messages.capture());
+        assertTrue(messages.getAllValues().get(0).getText().contains("Back: Socks"));
+        assertTrue(messages.getAllValues().get(1).getText().contains("It's back: Socks"));
+    }
+
+    private void stubWaitlistTranslations(String locale, String productBackInStock) {
+        when(translationService.getTranslation("email.waitlist.subject", locale)).thenReturn("Subject " + locale);
+        when(translationService.getTranslation("email.waitlist.greeting", locale)).thenReturn("Hello!");
+        when(translationService.getTranslation("email.waitlist.product_back_in_stock", locale)).thenReturn(productBackInStock);
+        when(translationService.getTranslation("email.waitlist.purchase_link", locale)).thenReturn("Buy: {0}");
+        when(translationService.getTranslation("email.waitlist.regards", locale)).thenReturn("Regards,");
+        when(translationService.getTranslation("email.waitlist.team", locale)).thenReturn("Team");
+    }
 }
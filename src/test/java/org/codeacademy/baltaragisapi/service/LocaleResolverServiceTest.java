@@ -1,5 +1,6 @@
 package org.codeacademy.baltaragisapi.service;
 
+import org.codeacademy.baltaragisapi.config.I18nProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +10,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -22,7 +25,7 @@ class LocaleResolverServiceTest {
     
     @BeforeEach
     void setUp() {
-        localeResolverService = new LocaleResolverService();
+        localeResolverService = new LocaleResolverService(new I18nProperties());
     }
     
     @Test
@@ -171,4 +174,79 @@ class LocaleResolverServiceTest {
         assertFalse(localeResolverService.isSupportedLocale("invalid"));
         assertFalse(localeResolverService.isSupportedLocale(null));
     }
+    
+    @Test
+    void testNegotiate_HigherQualityWinsOverHeaderOrder() {
+        assertEquals("lt-LT", localeResolverService.negotiate("en;q=0.5, lt"));
+        assertEquals("en-US", localeResolverService.negotiate("lt-LT;q=0.3,en-GB;q=0.8"));
+    }
+    
+    @Test
+    void testNegotiate_ExactTagPreferredOverPrimaryLanguage() {
+        I18nProperties properties = new I18nProperties();
+        properties.setSupportedLocales(List.of("en-US", "en-GB", "lt-LT"));
+        LocaleResolverService service = new LocaleResolverService(properties);
+        
+        assertEquals("en-GB", service.negotiate("en-GB"));
+        assertEquals("en-US", service.negotiate("en"));
+    }
+    
+    @Test
+    void testNegotiate_ZeroQualityExcludes() {
+        assertEquals("lt-LT", localeResolverService.negotiate("*, en;q=0"));
+        assertNull(localeResolverService.negotiate("en;q=0, lt;q=0, de"));
+    }
+    
+    @Test
+    void testNegotiate_ZeroQualityRegionExcludesOnlyThatRegion() {
+        assertEquals("en-US", localeResolverService.negotiate("en-US, en-GB;q=0"));
+        assertEquals("en-US", localeResolverService.negotiate("en-GB;q=0, en"));
+        assertEquals("lt-LT", localeResolverService.negotiate("en-US;q=0, en, lt;q=0.5"));
+        assertEquals("en-US", localeResolverService.negotiate("en;q=0, en-US, lt;q=0.5"));
+    }
+    
+    @Test
+    void testNegotiate_ZeroQualityWildcardExcludesUnlisted() {
+        assertEquals("en-US", localeResolverService.negotiate("en-GB, *;q=0"));
+        assertNull(localeResolverService.negotiate("*, *;q=0"));
+        assertNull(localeResolverService.negotiate("de, *;q=0"));
+    }
+    
+    @Test
+    void testNegotiate_WildcardAndMalformedRanges() {
+        assertEquals("en-US", localeResolverService.negotiate("de, *;q=0.1"));
+        assertEquals("lt-LT", localeResolverService.negotiate("en;q=abc, lt;q=0.2, en;q=7"));
+        assertNull(localeResolverService.negotiate(" , ;q=1"));
+    }
+    
+    @Test
+    void testResolveLocale_AcceptLanguageNoMatchFallsBackToCountry() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "de-DE,fr;q=0.8");
+        request.addHeader("CF-IPCountry", "LT");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        
+        assertEquals("lt-LT", localeResolverService.resolveLocale());
+    }
+    
+    @Test
+    void testResolveLocale_ResolvedOncePerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "lt");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        
+        assertEquals("lt-LT", localeResolverService.resolveLocale());
+        request.addParameter("locale", "en-US");
+        
+        // Later calls in the same request reuse the first resolution
+        assertEquals("lt-LT", localeResolverService.resolveLocale());
+    }
+    
+    @Test
+    void testConstructor_RejectsUnsupportedDefault() {
+        I18nProperties properties = new I18nProperties();
+        properties.setDefaultLocale("de-DE");
+        
+        assertThrows(IllegalStateException.class, () -> new LocaleResolverService(properties));
+    }
 }
@@ -2,6 +2,7 @@ package org.codeacademy.baltaragisapi.service;
 
 import org.codeacademy.baltaragisapi.entity.Product;
 import org.codeacademy.baltaragisapi.entity.ProductPhoto;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
 import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.media.MediaStorage;
 import org.codeacademy.baltaragisapi.mapper.ProductPhotoMapper;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
@@ -43,12 +45,15 @@ class PhotoUploadServiceTest {
     @Mock
     private ProductPhotoMapper productPhotoMapper;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     private PhotoUploadService photoUploadService;
     
     @BeforeEach
     void setUp() {
         photoUploadService = new PhotoUploadService(
-            mediaStorage, productRepository, productPhotoRepository, productPhotoMapper
+            mediaStorage, productRepository, productPhotoRepository, productPhotoMapper, eventPublisher
         );
     }
     
@@ -99,6 +104,7 @@ class PhotoUploadServiceTest {
             assertEquals(1, result.getSortOrder());
             
             verify(mediaStorage).uploadFile(eq(file), eq(productId), any());
+            verify(eventPublisher).publishEvent(new ProductChangedEvent(productId));
             verify(productPhotoRepository).save(any(ProductPhoto.class));
         }
     }
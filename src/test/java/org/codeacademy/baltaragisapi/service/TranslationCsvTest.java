@@ -0,0 +1,53 @@
+package org.codeacademy.baltaragisapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for TranslationCsv.
+ */
+class TranslationCsvTest {
+
+    @Test
+    void testWriteThenRead_RoundTripsSpecialCharacters() throws IOException {
+        StringWriter writer = new StringWriter();
+        TranslationCsv.writeRecord(writer, "en-US", "common.plain", "Add to Cart");
+        TranslationCsv.writeRecord(writer, "en-US", "common.quoted", "Say \"hi\", then\nleave");
+
+        StringReader reader = new StringReader(writer.toString());
+
+        assertEquals(List.of("en-US", "common.plain", "Add to Cart"), TranslationCsv.readRecord(reader));
+        assertEquals(List.of("en-US", "common.quoted", "Say \"hi\", then\nleave"), TranslationCsv.readRecord(reader));
+        assertNull(TranslationCsv.readRecord(reader));
+    }
+
+    @Test
+    void testWriteRecord_QuotesOnlyWhenNeeded() throws IOException {
+        StringWriter writer = new StringWriter();
+        TranslationCsv.writeRecord(writer, "lt-LT", "cart.total", "Iš viso, €");
+
+        assertEquals("lt-LT,cart.total,\"Iš viso, €\"\r\n", writer.toString());
+    }
+
+    @Test
+    void testReadRecord_EmptyFieldsAndLfEndings() throws IOException {
+        StringReader reader = new StringReader("a,,\"\"\nb,c,d");
+
+        assertEquals(List.of("a", "", ""), TranslationCsv.readRecord(reader));
+        assertEquals(List.of("b", "c", "d"), TranslationCsv.readRecord(reader));
+        assertNull(TranslationCsv.readRecord(reader));
+    }
+
+    @Test
+    void testReadRecord_UnterminatedQuote() {
+        StringReader reader = new StringReader("en-US,key,\"open");
+
+        assertThrows(IllegalArgumentException.class, () -> TranslationCsv.readRecord(reader));
+    }
+}
@@ -0,0 +1,77 @@
+package org.codeacademy.baltaragisapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.codeacademy.baltaragisapi.config.I18nProperties;
+import org.codeacademy.baltaragisapi.entity.TranslationMiss;
+import org.codeacademy.baltaragisapi.repository.TranslationMissRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for TranslationMissTracker.
+ */
+@ExtendWith(MockitoExtension.class)
+class TranslationMissTrackerTest {
+
+    @Mock
+    private TranslationMissRepository missRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TranslationMissTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        I18nProperties properties = new I18nProperties();
+        properties.setMissTrackingMaxKeys(2);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new TranslationMissTracker(missRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void testFlush_AddsToExistingRowsAndInsertsNewOnes() {
+        when(missRepository.addMisses(eq("en-US"), eq("common.old"), eq(2L), any())).thenReturn(1);
+        when(missRepository.addMisses(eq("en-US"), eq("common.new"), eq(1L), any())).thenReturn(0);
+
+        tracker.record("en-US", "common.old");
+        tracker.record("en-US", "common.old");
+        tracker.record("en-US", "common.new");
+        tracker.flush();
+
+        verify(missRepository).save(argThat(miss -> miss.getKey().equals("common.new") && miss.getMissCount() == 1));
+        verify(missRepository, times(1)).save(any(TranslationMiss.class));
+        assertEquals(3, meterRegistry.get("i18n.translation.misses").functionCounter().count());
+        assertEquals(0, meterRegistry.get("i18n.translation.misses.pending.keys").gauge().value());
+    }
+
+    @Test
+    void testRecord_BoundsDistinctKeys() {
+        tracker.record("en-US", "a");
+        tracker.record("en-US", "b");
+        tracker.record("en-US", "c");
+        tracker.record("en-US", "a");
+
+        assertEquals(2, meterRegistry.get("i18n.translation.misses.pending.keys").gauge().value());
+        assertEquals(1, meterRegistry.get("i18n.translation.misses.dropped").functionCounter().count());
+    }
+
+    @Test
+    void testFlush_KeepsCountsWhenWriteFails() {
+        when(missRepository.addMisses(eq("en-US"), eq("a"), anyLong(), any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(1);
+
+        tracker.record("en-US", "a");
+        tracker.flush();
+        tracker.flush();
+
+        verify(missRepository, times(2)).addMisses(eq("en-US"), eq("a"), eq(1L), any());
+    }
+}
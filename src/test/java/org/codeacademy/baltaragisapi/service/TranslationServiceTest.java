@@ -1,13 +1,22 @@
 package org.codeacademy.baltaragisapi.service;
 
+import org.codeacademy.baltaragisapi.config.CatalogProperties;
+import org.codeacademy.baltaragisapi.config.I18nProperties;
+import org.codeacademy.baltaragisapi.dto.TranslationDeltaDto;
+import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationResponse;
 import org.codeacademy.baltaragisapi.entity.Translation;
+import org.codeacademy.baltaragisapi.entity.TranslationTombstone;
+import org.codeacademy.baltaragisapi.event.TranslationsChangedEvent;
+import org.codeacademy.baltaragisapi.exception.NotFoundException;
 import org.codeacademy.baltaragisapi.exception.ValidationException;
 import org.codeacademy.baltaragisapi.repository.TranslationRepository;
+import org.codeacademy.baltaragisapi.repository.TranslationTombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -28,26 +37,34 @@ class TranslationServiceTest {
     @Mock
     private TranslationRepository translationRepository;
     
+    @Mock
+    private TranslationTombstoneRepository tombstoneRepository;
+    
     @Mock
     private LocaleResolverService localeResolverService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private TranslationMissTracker missTracker;
+    
     private TranslationService translationService;
     
     @BeforeEach
     void setUp() {
-        translationService = new TranslationService(translationRepository, localeResolverService);
+        translationService = new TranslationService(translationRepository, tombstoneRepository, localeResolverService,
+            eventPublisher, missTracker, new I18nProperties(), new CatalogProperties());
     }
     
     @Test
     void testGetTranslationsForLocale_Success() {
         // Given
         String locale = "en-US";
-        List<Translation> translations = Arrays.asList(
-            createTranslation("common.add_to_cart", "Add to Cart"),
-            createTranslation("common.loading", "Loading...")
-        );
-        
-        when(translationRepository.findByLocaleOrderByKeyAsc(locale)).thenReturn(translations);
+        when(translationRepository.findKeyValuePairsByLocale(locale)).thenReturn(rows(
+            "common.add_to_cart", "Add to Cart",
+            "common.loading", "Loading..."
+        ));
         when(localeResolverService.isSupportedLocale(locale)).thenReturn(true);
         
         // When
@@ -58,7 +75,7 @@ class TranslationServiceTest {
         assertEquals("Add to Cart", result.get("common.add_to_cart"));
         assertEquals("Loading...", result.get("common.loading"));
         
-        verify(translationRepository).findByLocaleOrderByKeyAsc(locale);
+        verify(translationRepository).findKeyValuePairsByLocale(locale);
     }
     
     @Test
@@ -80,10 +97,7 @@ class TranslationServiceTest {
         // Given
         String key = "common.add_to_cart";
         String locale = "en-US";
-        Translation translation = new Translation();
-        translation.setValue("Add to Cart");
-        
-        when(translationRepository.findByKeyAndLocale(key, locale)).thenReturn(Optional.of(translation));
+        when(translationRepository.findKeyValuePairsByLocale(locale)).thenReturn(rows(key, "Add to Cart"));
         when(localeResolverService.isSupportedLocale(locale)).thenReturn(true);
         
         // When
@@ -91,7 +105,7 @@ class TranslationServiceTest {
         
         // Then
         assertEquals("Add to Cart", result);
-        verify(translationRepository).findByKeyAndLocale(key, locale);
+        verify(translationRepository, never()).findByKeyAndLocale(any(), any());
     }
     
     @Test
@@ -100,7 +114,7 @@ class TranslationServiceTest {
         String key = "common.nonexistent";
         String locale = "en-US";
         
-        when(translationRepository.findByKeyAndLocale(key, locale)).thenReturn(Optional.empty());
+        when(translationRepository.findKeyValuePairsByLocale(locale)).thenReturn(rows());
         when(localeResolverService.isSupportedLocale(locale)).thenReturn(true);
         
         // When
@@ -108,6 +122,7 @@ class TranslationServiceTest {
         
         // Then: Should fallback to key
         assertEquals(key, result);
+        verify(missTracker).record(locale, key);
     }
     
     @Test
@@ -115,11 +130,8 @@ class TranslationServiceTest {
         // Given
         String key = "common.add_to_cart";
         String currentLocale = "lt-LT";
-        Translation translation = new Translation();
-        translation.setValue("Pridėti į krepšelį");
-        
         when(localeResolverService.resolveLocale()).thenReturn(currentLocale);
-        when(translationRepository.findByKeyAndLocale(key, currentLocale)).thenReturn(Optional.of(translation));
+        when(translationRepository.findKeyValuePairsByLocale(currentLocale)).thenReturn(rows(key, "Pridėti į krepšelį"));
         when(localeResolverService.isSupportedLocale(currentLocale)).thenReturn(true);
         
         // When
@@ -185,6 +197,7 @@ class TranslationServiceTest {
         assertEquals(newValue, result.getValue());
         
         verify(translationRepository).save(existingTranslation);
+        verify(eventPublisher).publishEvent(new TranslationsChangedEvent(locale));
     }
     
     @Test
@@ -218,19 +231,266 @@ class TranslationServiceTest {
         
         when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
         when(localeResolverService.isSupportedLocale("lt-LT")).thenReturn(true);
-        when(translationRepository.findByKeyAndLocale(anyString(), anyString())).thenReturn(Optional.empty());
-        when(translationRepository.save(any(Translation.class))).thenAnswer(invocation -> {
-            Translation t = invocation.getArgument(0);
-            t.setId(1L);
-            return t;
-        });
+        when(translationRepository.findKeyValuePairsByLocaleAndKeys(anyString(), anyCollection())).thenReturn(List.of());
         
         // When
-        List<Translation> results = translationService.bulkUpsertTranslations(translations);
+        BulkTranslationResponse result = translationService.bulkUpsertTranslations(translations);
         
         // Then
-        assertEquals(4, results.size());
-        verify(translationRepository, times(4)).save(any(Translation.class));
+        assertEquals(4, result.getCreated());
+        verify(translationRepository, times(2)).batchInsert(anyString(), anyMap(), any());
+        verify(translationRepository, never()).save(any(Translation.class));
+        verify(eventPublisher).publishEvent(new TranslationsChangedEvent("en-US"));
+        verify(eventPublisher).publishEvent(new TranslationsChangedEvent("lt-LT"));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+    
+    @Test
+    void testBulkUpsertTranslations_SplitsCreatedUpdatedUnchanged() {
+        // Given
+        Map<String, Map<String, String>> translations = Map.of("en-US", Map.of(
+            "common.loading", "Loading...",
+            "common.error", " Something went wrong ",
+            "common.new", "New"
+        ));
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocaleAndKeys(eq("en-US"), anyCollection())).thenReturn(rows(
+            "common.loading", "Loading...",
+            "common.error", "Error"
+        ));
+        
+        // When
+        BulkTranslationResponse result = translationService.bulkUpsertTranslations(translations);
+        
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        verify(translationRepository).batchInsert(eq("en-US"), eq(Map.of("common.new", "New")), any());
+        verify(translationRepository).batchUpdate(eq("en-US"), eq(Map.of("common.error", "Something went wrong")), any());
+        verify(translationRepository).batchDeleteTombstones(eq("en-US"), argThat(keys -> keys.contains("common.new")));
+    }
+    
+    @Test
+    void testBulkUpsertTranslations_NothingChanged() {
+        // Given
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocaleAndKeys(eq("en-US"), anyCollection()))
+            .thenReturn(rows("common.loading", "Loading..."));
+        
+        // When
+        BulkTranslationResponse result = translationService.bulkUpsertTranslations(
+            Map.of("en-US", Map.of("common.loading", "Loading...")));
+        
+        // Then
+        assertEquals(1, result.getUnchanged());
+        verify(translationRepository, never()).batchInsert(any(), any(), any());
+        verify(translationRepository, never()).batchUpdate(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testGetTranslation_LoadsLocaleOnce() {
+        // Given
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US")).thenReturn(rows(
+            "email.waitlist.greeting", "Hello",
+            "email.waitlist.regards", "Regards"
+        ));
+        
+        // When
+        for (int i = 0; i < 100; i++) {
+            translationService.getTranslation("email.waitlist.greeting", "en-US");
+            translationService.getTranslation("email.waitlist.regards", "en-US");
+        }
+        
+        // Then
+        verify(translationRepository, times(1)).findKeyValuePairsByLocale("en-US");
+    }
+
+    @Test
+    void testOnTranslationsChanged_SwapsBundleAndVersion() {
+        // Given
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US"))
+            .thenReturn(rows("common.loading", "Loading..."), rows("common.loading", "Please wait"));
+        long before = translationService.getTranslationsVersion("en-US");
+        
+        // When
+        translationService.onTranslationsChanged(new TranslationsChangedEvent("en-US"));
+        
+        // Then
+        assertEquals("Please wait", translationService.getTranslation("common.loading", "en-US"));
+        assertTrue(translationService.getTranslationsVersion("en-US") > before);
+    }
+    
+    @Test
+    void testGetPublicTranslations_ExcludesServerNamespaces() {
+        // Given
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US")).thenReturn(rows(
+            "common.loading", "Loading...",
+            "email.waitlist.subject", "Back in stock",
+            "nav.home", "Home"
+        ));
+        
+        // When
+        Map<String, String> result = translationService.getPublicTranslations("en-US");
+        
+        // Then
+        assertEquals(List.of("common.loading", "nav.home"), new ArrayList<>(result.keySet()));
+        assertEquals("Back in stock", translationService.getTranslation("email.waitlist.subject", "en-US"));
+    }
+    
+    @Test
+    void testGetNamespaceTranslations_ReturnsKeyRange() {
+        // Given
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US")).thenReturn(rows(
+            "nav", "Not namespaced",
+            "nav.about", "About",
+            "nav.home", "Home",
+            "navigation.title", "Other namespace",
+            "products.title", "Products"
+        ));
+        
+        // When
+        Map<String, String> result = translationService.getNamespaceTranslations("en-US", "nav");
+        
+        // Then
+        assertEquals(Map.of("nav.about", "About", "nav.home", "Home"), result);
+    }
+    
+    @Test
+    void testGetNamespaceTranslations_ServerOnlyOrUnknown() {
+        // Given
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US")).thenReturn(rows(
+            "email.waitlist.subject", "Back in stock"
+        ));
+        
+        // When & Then
+        assertThrows(NotFoundException.class, () -> translationService.getNamespaceTranslations("en-US", "email"));
+        assertThrows(NotFoundException.class, () -> translationService.getNamespaceTranslations("en-US", "cart"));
+    }
+    
+    @Test
+    void testBulkUpsertTranslations_WritesInFixedSizeBatches() {
+        // Given
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < TranslationService.WRITE_BATCH_SIZE * 2 + 1; i++) {
+            entries.put("test.key" + i, "Value " + i);
+        }
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocaleAndKeys(eq("en-US"), anyCollection())).thenReturn(List.of());
+        
+        // When
+        BulkTranslationResponse result = translationService.bulkUpsertTranslations(Map.of("en-US", entries));
+        
+        // Then
+        assertEquals(entries.size(), result.getCreated());
+        verify(translationRepository, times(3)).batchInsert(eq("en-US"), anyMap(), any());
+        verify(eventPublisher, times(1)).publishEvent(new TranslationsChangedEvent("en-US"));
+    }
+    
+    @Test
+    void testDeleteTranslation_LeavesTombstone() {
+        // Given
+        Translation translation = new Translation();
+        translation.setKey("common.obsolete");
+        translation.setLocale("en-US");
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findByKeyAndLocale("common.obsolete", "en-US")).thenReturn(Optional.of(translation));
+        when(tombstoneRepository.findByKeyAndLocale("common.obsolete", "en-US")).thenReturn(Optional.empty());
+        
+        // When
+        translationService.deleteTranslation("common.obsolete", "en-US");
+        
+        // Then
+        verify(translationRepository).delete(translation);
+        verify(tombstoneRepository).save(argThat(tombstone ->
+            tombstone.getKey().equals("common.obsolete") && tombstone.getDeletedAt() != null));
+    }
+    
+    @Test
+    void testGetTranslationsSince_ReturnsChangesDeletesAndVersion() {
+        // Given
+        OffsetDateTime updated = OffsetDateTime.parse("2025-10-01T10:00:00Z");
+        OffsetDateTime deleted = OffsetDateTime.parse("2025-10-01T11:00:00Z");
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findLastUpdatedAt("en-US")).thenReturn(updated);
+        when(tombstoneRepository.findLastDeletedAt("en-US")).thenReturn(deleted);
+        when(translationRepository.findKeyValuePairsChangedSince(eq("en-US"), any()))
+            .thenReturn(rows("common.loading", "Please wait"));
+        when(tombstoneRepository.findKeysDeletedSince(eq("en-US"), any())).thenReturn(List.of("common.obsolete"));
+        
+        // When
+        TranslationDeltaDto delta = translationService.getTranslationsSince("en-US", updated.toInstant().toEpochMilli());
+        
+        // Then
+        assertEquals(deleted.toInstant().toEpochMilli(), delta.getVersion());
+        assertEquals(Map.of("common.loading", "Please wait"), delta.getChanged());
+        assertEquals(List.of("common.obsolete"), delta.getDeleted());
+        verify(translationRepository).findKeyValuePairsChangedSince("en-US", updated);
+    }
+    
+    @Test
+    void testGetTranslationsSyncVersion_StaysOverlapBehindNow() {
+        // Given: a change stamped just now, possibly ahead of a transaction still open
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findLastUpdatedAt("en-US")).thenReturn(OffsetDateTime.now());
+        long before = System.currentTimeMillis();
+        
+        // When
+        long version = translationService.getTranslationsSyncVersion("en-US");
+        
+        // Then
+        assertTrue(version <= System.currentTimeMillis() - new I18nProperties().getSyncOverlap().toMillis());
+        assertTrue(version >= before - new I18nProperties().getSyncOverlap().toMillis());
+    }
+    
+    @Test
+    void testRefreshBundles_SeveralNodesServeOtherNodesChanges() {
+        // Given
+        CatalogProperties catalogProperties = new CatalogProperties();
+        catalogProperties.setSingleNode(false);
+        translationService = new TranslationService(translationRepository, tombstoneRepository, localeResolverService,
+            eventPublisher, missTracker, new I18nProperties(), catalogProperties);
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US"))
+            .thenReturn(rows("common.loading", "Loading..."), rows("common.loading", "Please wait"));
+        assertEquals("Loading...", translationService.getTranslation("common.loading", "en-US"));
+        long before = translationService.getTranslationsVersion("en-US");
+        
+        // When: changed through another node, so no event reaches this one
+        translationService.refreshBundles();
+        long after = translationService.getTranslationsVersion("en-US");
+        translationService.refreshBundles();
+        
+        // Then: the change is served, and an unchanged reload keeps the version
+        assertEquals("Please wait", translationService.getTranslation("common.loading", "en-US"));
+        assertTrue(after > before);
+        assertEquals(after, translationService.getTranslationsVersion("en-US"));
+    }
+    
+    @Test
+    void testRefreshBundles_SingleNodeReliesOnEvents() {
+        when(localeResolverService.isSupportedLocale("en-US")).thenReturn(true);
+        when(translationRepository.findKeyValuePairsByLocale("en-US")).thenReturn(rows("common.loading", "Loading..."));
+        translationService.getTranslation("common.loading", "en-US");
+        
+        translationService.refreshBundles();
+        
+        verify(translationRepository, times(1)).findKeyValuePairsByLocale("en-US");
+    }
+    
+    @Test
+    void testGetTranslationsSince_NegativeVersion() {
+        ValidationException exception = assertThrows(ValidationException.class, () ->
+            translationService.getTranslationsSince("en-US", -1)
+        );
+        
+        assertTrue(exception.getFieldErrors().containsKey("since"));
     }
     
     @Test
@@ -247,13 +507,11 @@ class TranslationServiceTest {
         verify(localeResolverService).resolveLocale();
     }
     
-    private Translation createTranslation(String key, String value) {
-        Translation translation = new Translation();
-        translation.setKey(key);
-        translation.setValue(value);
-        translation.setLocale("en-US");
-        translation.setId(1L);
-        translation.setUpdatedAt(OffsetDateTime.now());
-        return translation;
+    private static List<Object[]> rows(String... keyValues) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            rows.add(new Object[] {keyValues[i], keyValues[i + 1]});
+        }
+        return rows;
     }
 }
@@ -0,0 +1,153 @@
+package org.codeacademy.baltaragisapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codeacademy.baltaragisapi.dto.admin.BulkTranslationResponse;
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+import org.codeacademy.baltaragisapi.repository.TranslationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for TranslationTransferService.
+ */
+@ExtendWith(MockitoExtension.class)
+class TranslationTransferServiceTest {
+
+    private static final BulkTranslationResponse ONE_CREATED = BulkTranslationResponse.builder().created(1).build();
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    private TranslationTransferService transferService;
+    private List<String> batches;
+
+    @BeforeEach
+    void setUp() {
+        transferService = new TranslationTransferService(translationService, translationRepository, new ObjectMapper());
+        batches = new ArrayList<>();
+    }
+
+    @Test
+    void testImportJson_BatchesPerLocale() throws IOException {
+        recordBatches();
+
+        BulkTranslationResponse result = transferService.importJson(json(
+                "{\"translations\": {\"en-US\": {\"a\": \"A\", \"b\": \"B\"}, \"lt-LT\": {\"a\": \"Ą\"}}}"));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(List.of("en-US {a=A, b=B}", "lt-LT {a=Ą}"), batches);
+        verify(translationService).finishImport(Set.of("en-US", "lt-LT"));
+    }
+
+    @Test
+    void testImportJson_SplitsLargeLocaleIntoFixedBatches() throws IOException {
+        when(translationService.importBatch(anyString(), anyMap())).thenReturn(ONE_CREATED);
+        StringBuilder body = new StringBuilder("{\"en-US\": {");
+        for (int i = 0; i <= TranslationService.WRITE_BATCH_SIZE; i++) {
+            body.append(i == 0 ? "" : ",").append("\"key").append(i).append("\": \"v\"");
+        }
+        body.append("}}");
+
+        transferService.importJson(json(body.toString()));
+
+        verify(translationService, times(2)).importBatch(eq("en-US"), anyMap());
+    }
+
+    @Test
+    void testImportJson_Malformed_KeepsWrittenBatchesAndReloads() {
+        assertThrows(ValidationException.class, () -> transferService.importJson(json("{\"en-US\": {\"a\": 1}}")));
+        assertThrows(ValidationException.class, () -> transferService.importJson(json("{\"en-US\": {\"a\": \"A\"")));
+
+        verify(translationService, never()).importBatch(anyString(), anyMap());
+        verify(translationService, times(2)).finishImport(Set.of());
+    }
+
+    @Test
+    void testImportCsv_RequiresHeaderAndThreeFields() throws IOException {
+        recordBatches();
+
+        BulkTranslationResponse result = transferService.importCsv(new StringReader(
+                "locale,key,value\r\nen-US,common.loading,\"Loading, please wait\"\r\n\r\n"));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(List.of("en-US {common.loading=Loading, please wait}"), batches);
+        assertThrows(ValidationException.class, () -> transferService.importCsv(new StringReader("key,value\n")));
+        assertThrows(ValidationException.class, () -> transferService.importCsv(new StringReader("locale,key,value\nen-US,a\n")));
+    }
+
+    @Test
+    void testExportJson_GroupsByLocale() throws IOException {
+        when(translationRepository.streamForExport(null)).thenReturn(Stream.of(
+                new Object[] {"en-US", "a", "A"},
+                new Object[] {"en-US", "b", "B"},
+                new Object[] {"lt-LT", "a", "Ą"}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        transferService.exportJson(null, out);
+
+        assertEquals("{\"en-US\":{\"a\":\"A\",\"b\":\"B\"},\"lt-LT\":{\"a\":\"Ą\"}}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportJson_LeavesStreamOpen() throws IOException {
+        when(translationRepository.streamForExport("en-US")).thenReturn(Stream.<Object[]>of(new Object[] {"en-US", "a", "A"}));
+        boolean[] closed = {false};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        transferService.exportJson("en-US", out);
+
+        assertFalse(closed[0]);
+        assertEquals("{\"en-US\":{\"a\":\"A\"}}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExportCsv_WritesHeaderAndRows() throws IOException {
+        when(translationRepository.streamForExport("en-US")).thenReturn(Stream.<Object[]>of(new Object[] {"en-US", "a", "A, B"}));
+        StringWriter writer = new StringWriter();
+
+        transferService.exportCsv("en-US", writer);
+
+        assertEquals(List.of("locale,key,value", "en-US,a,\"A, B\"", ""), List.of(writer.toString().split("\r\n", -1)));
+    }
+
+    /**
+     * Keep a snapshot of each batch, since the importer reuses its buffer.
+     */
+    private void recordBatches() {
+        when(translationService.importBatch(anyString(), anyMap())).thenAnswer(invocation -> {
+            batches.add(invocation.getArgument(0) + " " + invocation.getArgument(1));
+            return ONE_CREATED;
+        });
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
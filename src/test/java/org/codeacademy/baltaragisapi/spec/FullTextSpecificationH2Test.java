@@ -0,0 +1,68 @@
+package org.codeacademy.baltaragisapi.spec;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codeacademy.baltaragisapi.entity.Product;
+import org.codeacademy.baltaragisapi.repository.ProductCardRow;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.repository.RecordingStatementInspector;
+import org.codeacademy.baltaragisapi.search.FullTextSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * On H2 the full-text functions are not registered, so text search falls back to LIKE.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.codeacademy.baltaragisapi.repository.RecordingStatementInspector")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FullTextSpecificationH2Test {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Product product = new Product();
+        product.setName("Zebrawood Panel");
+        product.setSlug("zebrawood-panel");
+        product.setPriceCents(1000);
+        product.setIsPublished(true);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        entityManager.persistAndFlush(product);
+        RecordingStatementInspector.SQL.clear();
+    }
+
+    @Test
+    void byText_FallsBackToLikeWithoutFullTextFunctions() {
+        boolean available = new FullTextSupport(entityManagerFactory).isAvailable();
+
+        Page<ProductCardRow> page = productRepository.findCards(
+                ProductSpecifications.isPublished().and(ProductSpecifications.byText("ZEBRAWOOD", available)),
+                PageRequest.of(0, 10));
+
+        assertThat(available).isFalse();
+        assertThat(page.getContent()).extracting(ProductCardRow::slug).containsExactly("zebrawood-panel");
+        assertThat(RecordingStatementInspector.SQL).anySatisfy(sql -> assertThat(sql.toLowerCase()).contains(" like "))
+                .noneSatisfy(sql -> assertThat(sql.toLowerCase()).contains("against"));
+    }
+}
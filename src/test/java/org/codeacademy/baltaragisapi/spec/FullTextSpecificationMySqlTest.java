@@ -0,0 +1,65 @@
+package org.codeacademy.baltaragisapi.spec;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codeacademy.baltaragisapi.repository.ProductRepository;
+import org.codeacademy.baltaragisapi.repository.RecordingStatementInspector;
+import org.codeacademy.baltaragisapi.search.FullTextSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Renders the full-text specification with the MySQL dialect. The statements are captured as they
+ * are prepared; H2 cannot run {@code MATCH ... AGAINST}, so executing them fails afterwards.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.codeacademy.baltaragisapi.repository.RecordingStatementInspector"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FullTextSpecificationMySqlTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.SQL.clear();
+    }
+
+    @Test
+    void fullTextFunctionsRegisteredForMySql() {
+        assertThat(new FullTextSupport(entityManagerFactory).isAvailable()).isTrue();
+    }
+
+    @Test
+    void byFullText_RendersBooleanMatchAndRelevanceOrder() {
+        assertThrows(RuntimeException.class, () -> productRepository.findCards(
+                ProductSpecifications.byText("oak print", true), PageRequest.of(0, 10)));
+
+        String sql = RecordingStatementInspector.SQL.get(0).toLowerCase();
+        assertThat(sql).contains("against ('+oak* +print*' in boolean mode)>?");
+        assertThat(sql).contains("order by match(");
+        assertThat(sql).contains("against ('oak print' in natural language mode) desc");
+    }
+
+    @Test
+    void byFullText_CountQueryIsNotOrdered() {
+        assertThrows(RuntimeException.class, () -> productRepository.count(ProductSpecifications.byFullText("oak")));
+
+        String sql = RecordingStatementInspector.SQL.get(0).toLowerCase();
+        assertThat(sql).contains("count(").contains("in boolean mode").doesNotContain("order by");
+    }
+}
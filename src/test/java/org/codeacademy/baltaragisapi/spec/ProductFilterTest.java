@@ -0,0 +1,64 @@
+package org.codeacademy.baltaragisapi.spec;
+
+import org.codeacademy.baltaragisapi.dto.ProductCardDto;
+import org.codeacademy.baltaragisapi.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ProductFilter and PriceBand.
+ */
+class ProductFilterTest {
+
+    @Test
+    void testPriceBand_BoundsAreLowerInclusive() {
+        assertEquals(PriceBand.UNDER_25, PriceBand.of(2499));
+        assertEquals(PriceBand.FROM_25_TO_50, PriceBand.of(2500));
+        assertEquals(PriceBand.FROM_100, PriceBand.of(10000));
+        assertNull(PriceBand.of(null));
+    }
+
+    @Test
+    void testOf_UnknownBand_ThrowsValidationException() {
+        ValidationException ex = assertThrows(ValidationException.class, () -> ProductFilter.of("10-20", null, null));
+        assertTrue(ex.getFieldErrors().containsKey("price"));
+    }
+
+    @Test
+    void testOf_BlankParamsAreEmpty() {
+        assertTrue(ProductFilter.of(" ", null, "").isEmpty());
+    }
+
+    @Test
+    void testMatches_AllFieldsMustMatch() {
+        ProductFilter filter = ProductFilter.of("25-50", true, "eur");
+
+        assertTrue(filter.matches(card(3500, "EUR", true)));
+        assertFalse(filter.matches(card(5500, "EUR", true)));
+        assertFalse(filter.matches(card(3500, "EUR", false)));
+        assertFalse(filter.matches(card(3500, "USD", true)));
+    }
+
+    @Test
+    void testOf_CurrencyUppercasedIndependentOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals("TRY", ProductFilter.of(null, null, " try ").currency());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private static ProductCardDto card(int priceCents, String currency, boolean inStock) {
+        return ProductCardDto.builder()
+                .id(1L)
+                .priceCents(priceCents)
+                .currency(currency)
+                .isInStock(inStock)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package org.codeacademy.baltaragisapi.spec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ProductSpecifications.
+ */
+class ProductSpecificationsTest {
+
+    @Test
+    void testToBooleanModeQuery_RequiresEveryWordAsPrefix() {
+        assertEquals("+oak* +print*", ProductSpecifications.toBooleanModeQuery("  oak  print "));
+    }
+
+    @Test
+    void testToBooleanModeQuery_StripsOperators() {
+        assertEquals("+sunset* +dawn*", ProductSpecifications.toBooleanModeQuery("-sunset \"dawn\"*"));
+    }
+
+    @Test
+    void testToBooleanModeQuery_KeepsLetters() {
+        assertEquals("+ąžuolas*", ProductSpecifications.toBooleanModeQuery("ąžuolas"));
+    }
+
+    @Test
+    void testByFullText_BlankQuery() {
+        assertNull(ProductSpecifications.byFullText("()"));
+        assertNull(ProductSpecifications.byFullText(null));
+    }
+}
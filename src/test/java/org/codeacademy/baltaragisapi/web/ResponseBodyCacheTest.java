@@ -0,0 +1,102 @@
+package org.codeacademy.baltaragisapi.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.codeacademy.baltaragisapi.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for ResponseBodyCache.
+ */
+class ResponseBodyCacheTest {
+
+    private static final Map<String, String> BODY = Map.of("common.description", "x".repeat(500));
+
+    private ResponseBodyCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResponseBodyCache(new ObjectMapper(), new SimpleMeterRegistry(), 1024 * 1024);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testServe_LoadsOnceAndKeepsHeaders() {
+        cache.serve("product:1:0", null, this::load);
+        ResponseEntity<byte[]> response = cache.serve("product:1:0", null, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals("\"1-0\"", response.getHeaders().getETag());
+        assertEquals("application/json", response.getHeaders().getContentType().toString());
+        assertTrue(new String(response.getBody(), StandardCharsets.UTF_8).contains("common.description"));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testServe_GzipWhenAccepted() throws IOException {
+        ResponseEntity<byte[]> plain = cache.serve("product:1:0", null, this::load);
+        ResponseEntity<byte[]> gzipped = cache.serve("product:1:0", "gzip, deflate, br", this::load);
+
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"1-0\"", plain.getHeaders().getETag());
+        assertEquals("\"1-0-gz\"", gzipped.getHeaders().getETag());
+        assertTrue(gzipped.getBody().length < plain.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testNotModified_AcceptsPlainAndGzipTags() {
+        ResponseEntity<byte[]> gzipTag = ResponseBodyCache.notModified("\"1-0\"", "\"0-9\", \"1-0-gz\"");
+        ResponseEntity<byte[]> weakPlainTag = ResponseBodyCache.notModified("\"1-0\"", "W/\"1-0\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, gzipTag.getStatusCode());
+        assertEquals("\"1-0-gz\"", gzipTag.getHeaders().getETag());
+        assertEquals("\"1-0\"", weakPlainTag.getHeaders().getETag());
+        assertNotNull(ResponseBodyCache.notModified("\"1-0\"", "*"));
+        assertNull(ResponseBodyCache.notModified("\"1-0\"", "\"1-1-gz\""));
+        assertNull(ResponseBodyCache.notModified("\"1-0\"", null));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(ResponseBodyCache.acceptsGzip("gzip"));
+        assertTrue(ResponseBodyCache.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(ResponseBodyCache.acceptsGzip("*"));
+        assertFalse(ResponseBodyCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseBodyCache.acceptsGzip("identity"));
+        assertFalse(ResponseBodyCache.acceptsGzip(null));
+    }
+
+    @Test
+    void testOnProductChanged_EvictsEveryVersionOfProduct() {
+        cache.serve("product:1:0", null, this::load);
+        cache.serve("product:12:0", null, this::load);
+
+        cache.onProductChanged(new ProductChangedEvent(1L));
+        cache.serve("product:1:0", null, this::load);
+        cache.serve("product:12:0", null, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    private ResponseEntity<?> load() {
+        loads.incrementAndGet();
+        return ResponseEntity.ok().eTag("\"1-0\"").body(BODY);
+    }
+}
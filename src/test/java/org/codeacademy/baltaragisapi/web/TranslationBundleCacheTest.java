@@ -0,0 +1,130 @@
+package org.codeacademy.baltaragisapi.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codeacademy.baltaragisapi.service.TranslationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for TranslationBundleCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class TranslationBundleCacheTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    private TranslationBundleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TranslationBundleCache(translationService, new ObjectMapper());
+    }
+
+    @Test
+    void testGet_BuildsOncePerVersion() {
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(1L);
+        when(translationService.getPublicTranslations("en-US")).thenReturn(Map.of("common.loading", "Loading..."));
+
+        TranslationBundleCache.Bundle first = cache.get("en-US");
+        TranslationBundleCache.Bundle second = cache.get("en-US");
+
+        assertSame(first, second);
+        assertEquals(16, first.hash().length());
+        assertEquals("\"" + first.hash() + "\"", first.etag(false));
+        assertEquals("\"" + first.hash() + "-gz\"", first.etag(true));
+        assertEquals("en-US." + first.hash() + ".json", first.fileName());
+        verify(translationService, times(1)).getPublicTranslations("en-US");
+    }
+
+    @Test
+    void testGet_RebuildsWhenVersionMoves() {
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(1L, 2L);
+        when(translationService.getPublicTranslations("en-US"))
+                .thenReturn(Map.of("common.loading", "Loading..."), Map.of("common.loading", "Please wait"));
+
+        String before = cache.get("en-US").hash();
+        String after = cache.get("en-US").hash();
+
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void testGet_SameContentKeepsHash() {
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(1L, 2L);
+        when(translationService.getPublicTranslations("en-US")).thenReturn(Map.of("common.loading", "Loading..."));
+
+        assertEquals(cache.get("en-US").hash(), cache.get("en-US").hash());
+    }
+
+    @Test
+    void testGetNamespace_CachedSeparatelyFromLocale() {
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(1L);
+        when(translationService.getPublicTranslations("en-US"))
+                .thenReturn(Map.of("common.loading", "Loading...", "nav.home", "Home"));
+        when(translationService.getNamespaceTranslations("en-US", "nav")).thenReturn(Map.of("nav.home", "Home"));
+
+        TranslationBundleCache.Bundle locale = cache.get("en-US");
+        TranslationBundleCache.Bundle namespace = cache.get("en-US", "nav");
+
+        assertNotEquals(locale.hash(), namespace.hash());
+        assertEquals("en-US/nav." + namespace.hash() + ".json", namespace.fileName());
+        assertSame(namespace, cache.get("en-US", "nav"));
+    }
+
+    @Test
+    void testToResponse_GzipWhenAccepted() throws IOException {
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(1L);
+        when(translationService.getPublicTranslations("en-US")).thenReturn(Map.of("common.loading", "Loading..."));
+        TranslationBundleCache.Bundle bundle = cache.get("en-US");
+
+        ResponseEntity<byte[]> plain = bundle.toResponse(null, null, CacheControl.noCache());
+        ResponseEntity<byte[]> gzipped = bundle.toResponse("gzip, br", null, CacheControl.noCache());
+
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(bundle.etag(false), plain.getHeaders().getETag());
+        assertEquals(bundle.etag(true), gzipped.getHeaders().getETag());
+        assertNotEquals(plain.getHeaders().getETag(), gzipped.getHeaders().getETag());
+        assertTrue(gzipped.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testToResponse_EitherRepresentationTagRevalidates() {
+        when(translationService.getTranslationsVersion("en-US")).thenReturn(1L);
+        when(translationService.getPublicTranslations("en-US")).thenReturn(Map.of("common.loading", "Loading..."));
+        TranslationBundleCache.Bundle bundle = cache.get("en-US");
+
+        ResponseEntity<byte[]> gzipTagPlainRequest = bundle.toResponse(null, bundle.etag(true), CacheControl.noCache());
+        ResponseEntity<byte[]> weakPlainTagGzipRequest = bundle.toResponse("gzip", "W/" + bundle.etag(false), CacheControl.noCache());
+        ResponseEntity<byte[]> otherTag = bundle.toResponse("gzip", "\"0123456789abcdef\"", CacheControl.noCache());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, gzipTagPlainRequest.getStatusCode());
+        assertEquals(bundle.etag(false), gzipTagPlainRequest.getHeaders().getETag());
+        assertNull(gzipTagPlainRequest.getBody());
+        assertEquals(HttpStatus.NOT_MODIFIED, weakPlainTagGzipRequest.getStatusCode());
+        assertEquals(bundle.etag(true), weakPlainTagGzipRequest.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, otherTag.getStatusCode());
+        assertTrue(bundle.matches("\"0123456789abcdef\", " + bundle.etag(true)));
+        assertTrue(bundle.matches("*"));
+        assertFalse(bundle.matches(null));
+    }
+}